@@ -1,11 +1,11 @@
 @echo off
 echo Compilando o projeto...
 if not exist "bin" mkdir bin
-javac -d bin src/main/java/banco/**/*.java
+javac -encoding UTF-8 --add-modules jdk.incubator.vector -d bin src/main/java/banco/*.java src/main/java/banco/**/*.java
 if %errorlevel% equ 0 (
     echo Compilacao concluida com sucesso!
     echo.
-    echo Para executar o programa, use: java -cp bin banco.Main
+    echo Para executar o programa, use: java --add-modules jdk.incubator.vector -cp bin banco.Main
 ) else (
     echo Erro na compilacao!
 )
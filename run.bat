@@ -1,6 +1,6 @@
 @echo off
 echo Executando o Sistema Bancario...
 echo.
-java -cp bin banco.Main
+java --add-modules jdk.incubator.vector -cp bin banco.Main
 echo.
 pause 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package banco;
 
+import banco.carga.DriverCarga;
 import banco.model.*;
 import banco.interfaces.OperacoesBancarias;
 import banco.interfaces.Rendimento;
@@ -11,7 +12,13 @@ import java.time.LocalDate;
  */
 public class Main {
     
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
+        // "carga" executa o driver de carga sintética no lugar da demonstração
+        if (args.length > 0 && args[0].equals("carga")) {
+            DriverCarga.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         System.out.println("=== SISTEMA BANCÁRIO - CONCEITOS DE ORIENTAÇÃO A OBJETOS ===\n");
         
         // Criando o banco
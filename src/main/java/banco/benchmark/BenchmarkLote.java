@@ -0,0 +1,123 @@
+package banco.benchmark;
+
+import banco.model.Banco;
+import banco.model.Conta;
+import banco.model.ContaCorrente;
+import banco.model.ContaJovem;
+import banco.model.ContaPoupanca;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara o processamento de fim de mês (rendimento + taxa de manutenção)
+ * conta a conta com as versões em lote do Banco, escalar e vetorial.
+ * Ao final confere se os lotes chegaram aos mesmos saldos do processamento conta a conta.
+ *
+ * Uso: java --add-modules jdk.incubator.vector -cp bin banco.benchmark.BenchmarkLote [contas] [repeticoes]
+ */
+public class BenchmarkLote {
+
+    public static void main(String[] args) {
+        int quantidadeContas = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        Conta.setMensagensAtivas(false);
+
+        System.out.println("Contas: " + quantidadeContas + " - Vector API disponível: " + Banco.isVetoresDisponiveis());
+        Banco porConta = criarBanco(quantidadeContas);
+        Banco escalar = criarBanco(quantidadeContas);
+        escalar.setUsarVetores(false);
+
+        medir("Conta a conta", repeticoes, () -> processarContaAConta(porConta));
+        medir("Lote escalar", repeticoes, () -> processarEmLote(escalar));
+        conferir("Lote escalar", porConta, escalar);
+
+        // Sem o módulo o Banco cairia nos kernels escalares - a linha mediria a mesma coisa
+        if (Banco.isVetoresDisponiveis()) {
+            Banco vetorial = criarBanco(quantidadeContas);
+            medir("Lote vetorial", repeticoes, () -> processarEmLote(vetorial));
+            conferir("Lote vetorial", porConta, vetorial);
+        } else {
+            System.out.printf("%-15s não medido: execute com --add-modules jdk.incubator.vector%n", "Lote vetorial");
+        }
+    }
+
+    private static void conferir(String nome, Banco esperado, Banco obtido) {
+        if (!saldosIguais(esperado, obtido)) {
+            throw new IllegalStateException(nome + " chegou a saldos diferentes do processamento conta a conta");
+        }
+        System.out.println(nome + " com saldos idênticos ao conta a conta.");
+    }
+
+    private static Banco criarBanco(int quantidadeContas) {
+        Banco banco = new Banco("Benchmark", "00.000.000/0001-00");
+        Random aleatorio = new Random(42);
+        LocalDate nascimentoJovem = LocalDate.now().minusYears(20);
+        for (int i = 0; i < quantidadeContas; i++) {
+            String numero = String.valueOf(i);
+            double saldo = aleatorio.nextInt(5000);
+            Conta conta;
+            switch (i % 3) {
+                case 0:
+                    conta = new ContaCorrente(numero, "Titular " + i, saldo);
+                    break;
+                case 1:
+                    conta = new ContaPoupanca(numero, "Titular " + i, saldo);
+                    break;
+                default:
+                    conta = new ContaJovem(numero, "Titular " + i, saldo, nascimentoJovem);
+            }
+            // Parte das contas inativas para exercitar as máscaras
+            if (aleatorio.nextInt(10) == 0) {
+                conta.setAtiva(false);
+            }
+            banco.adicionarConta(conta);
+        }
+        return banco;
+    }
+
+    // O processamento atual: aplicarRendimentos do Banco e a taxa cobrada conta a conta
+    private static void processarContaAConta(Banco banco) {
+        banco.aplicarRendimentos();
+        for (Conta conta : banco.getContas()) {
+            if (conta instanceof ContaCorrente) {
+                ((ContaCorrente) conta).cobrarTaxaManutencao();
+            }
+        }
+    }
+
+    private static void processarEmLote(Banco banco) {
+        banco.aplicarRendimentosEmLote();
+        banco.cobrarTaxasManutencaoEmLote();
+    }
+
+    private static void medir(String nome, int repeticoes, Runnable execucao) {
+        // Os métodos em lote imprimem um resumo por execução - silencia durante a medição
+        PrintStream saida = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long melhor = Long.MAX_VALUE;
+        try {
+            for (int i = 0; i < repeticoes; i++) {
+                long inicio = System.nanoTime();
+                execucao.run();
+                melhor = Math.min(melhor, System.nanoTime() - inicio);
+            }
+        } finally {
+            System.setOut(saida);
+        }
+        System.out.printf("%-15s melhor de %d: %8.2f ms%n", nome, repeticoes, melhor / 1e6);
+    }
+
+    private static boolean saldosIguais(Banco a, Banco b) {
+        List<Conta> contasA = a.getContas();
+        List<Conta> contasB = b.getContas();
+        for (int i = 0; i < contasA.size(); i++) {
+            if (Double.compare(contasA.get(i).getSaldo(), contasB.get(i).getSaldo()) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
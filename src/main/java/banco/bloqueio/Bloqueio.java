@@ -0,0 +1,64 @@
+package banco.bloqueio;
+
+import banco.model.Conta;
+
+/**
+ * Autorização (bloqueio) de um valor em uma conta, aguardando captura ou liberação.
+ * Os campos de encadeamento ficam no próprio objeto para que a roda de
+ * temporização não precise alocar nada por bloqueio.
+ */
+public class Bloqueio {
+
+    public enum Estado {
+        ATIVO, CAPTURADO, LIBERADO, EXPIRADO
+    }
+
+    private final long id;
+    private final Conta conta;
+    private final double valor;
+    private volatile Estado estado;
+
+    // Uso exclusivo da RodaTemporizacao
+    long expiracao;
+    int posicao;
+    Bloqueio anterior;
+    Bloqueio proximo;
+
+    Bloqueio(long id, Conta conta, double valor, long expiracao) {
+        this.id = id;
+        this.conta = conta;
+        this.valor = valor;
+        this.expiracao = expiracao;
+        this.estado = Estado.ATIVO;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Conta getConta() {
+        return conta;
+    }
+
+    public double getValor() {
+        return valor;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    void setEstado(Estado estado) {
+        this.estado = estado;
+    }
+
+    @Override
+    public String toString() {
+        return "Bloqueio{" +
+                "id=" + id +
+                ", conta='" + conta.getNumero() + '\'' +
+                ", valor=" + valor +
+                ", estado=" + estado +
+                '}';
+    }
+}
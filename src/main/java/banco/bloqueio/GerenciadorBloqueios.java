@@ -0,0 +1,124 @@
+package banco.bloqueio;
+
+import banco.model.Conta;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gerencia autorizações (bloqueios) de valores nas contas: bloquear, capturar
+ * e liberar, com expiração automática.
+ *
+ * A expiração é feita por uma única roda de temporização hierárquica avançada
+ * por uma única thread - não existe thread nem tarefa agendada por bloqueio,
+ * então milhões de bloqueios pendentes custam só os próprios objetos.
+ */
+public class GerenciadorBloqueios {
+    private final long resolucaoNanos;
+    private final long inicio;
+    private final RodaTemporizacao roda;
+    private long proximoId;
+    private long quantidadeExpirados;
+    private volatile boolean executando;
+    private Thread relogio;
+
+    // Construtor com SOBRECARGA (overload) - resolução padrão de 100 ms
+    public GerenciadorBloqueios() {
+        this(100);
+    }
+
+    // Construtor com SOBRECARGA (overload) - resolução da expiração em milissegundos
+    public GerenciadorBloqueios(long resolucaoMillis) {
+        this.resolucaoNanos = TimeUnit.MILLISECONDS.toNanos(resolucaoMillis);
+        this.inicio = System.nanoTime();
+        this.roda = new RodaTemporizacao(0);
+    }
+
+    /**
+     * Inicia a thread que expira os bloqueios vencidos
+     */
+    public void iniciar() {
+        executando = true;
+        relogio = new Thread(() -> {
+            while (executando) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(resolucaoNanos);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                expirarVencidos();
+            }
+        }, "expiracao-bloqueios");
+        relogio.setDaemon(true);
+        relogio.start();
+    }
+
+    public void parar() {
+        executando = false;
+        if (relogio != null) {
+            relogio.interrupt();
+        }
+    }
+
+    /**
+     * Reserva o valor na conta, respeitando a regra de saque do tipo de conta
+     * @param validadeMillis tempo até o bloqueio expirar sozinho
+     * @return o bloqueio, ou null se a conta não permitir reservar o valor
+     */
+    public synchronized Bloqueio bloquear(Conta conta, double valor, long validadeMillis) {
+        if (!conta.reservar(valor)) {
+            return null;
+        }
+        long prazo = System.nanoTime() - inicio + TimeUnit.MILLISECONDS.toNanos(validadeMillis);
+        // Arredonda para cima: um bloqueio nunca expira antes da validade pedida
+        long expiracao = (prazo + resolucaoNanos - 1) / resolucaoNanos;
+        Bloqueio bloqueio = new Bloqueio(++proximoId, conta, valor, expiracao);
+        roda.adicionar(bloqueio);
+        return bloqueio;
+    }
+
+    /**
+     * Efetiva o saque do valor bloqueado
+     * @return false se o bloqueio não está mais ativo ou a conta recusou o saque
+     */
+    public synchronized boolean capturar(Bloqueio bloqueio) {
+        if (bloqueio.getEstado() != Bloqueio.Estado.ATIVO || !bloqueio.getConta().capturarReserva(bloqueio.getValor())) {
+            return false;
+        }
+        roda.remover(bloqueio);
+        bloqueio.setEstado(Bloqueio.Estado.CAPTURADO);
+        return true;
+    }
+
+    /**
+     * Desfaz o bloqueio e devolve o valor ao saldo disponível
+     */
+    public synchronized boolean liberar(Bloqueio bloqueio) {
+        if (bloqueio.getEstado() != Bloqueio.Estado.ATIVO) {
+            return false;
+        }
+        roda.remover(bloqueio);
+        bloqueio.getConta().liberarReserva(bloqueio.getValor());
+        bloqueio.setEstado(Bloqueio.Estado.LIBERADO);
+        return true;
+    }
+
+    /**
+     * Avança a roda até o instante atual e libera os bloqueios vencidos
+     */
+    public synchronized void expirarVencidos() {
+        roda.avancarAte((System.nanoTime() - inicio) / resolucaoNanos, this::expirar);
+    }
+
+    private void expirar(Bloqueio bloqueio) {
+        bloqueio.getConta().liberarReserva(bloqueio.getValor());
+        bloqueio.setEstado(Bloqueio.Estado.EXPIRADO);
+        quantidadeExpirados++;
+    }
+
+    public synchronized int getQuantidadeAtivos() {
+        return roda.getQuantidade();
+    }
+
+    public synchronized long getQuantidadeExpirados() {
+        return quantidadeExpirados;
+    }
+}
@@ -0,0 +1,115 @@
+package banco.bloqueio;
+
+import java.util.function.Consumer;
+
+/**
+ * Roda de temporização hierárquica: 4 níveis de 64 posições, cada nível
+ * 64 vezes mais grosso que o anterior (64^4 ticks no total).
+ *
+ * Inserir e remover são O(1); a cada tick só a posição corrente do nível 0
+ * é visitada, e os níveis de cima são redistribuídos para baixo quando
+ * o nível inferior completa uma volta. Prazos além do alcance da roda
+ * ficam no último nível e são reavaliados a cada volta.
+ *
+ * Não é thread-safe - o GerenciadorBloqueios sincroniza o acesso.
+ */
+class RodaTemporizacao {
+    private static final int BITS = 6;
+    private static final int POSICOES = 1 << BITS;
+    private static final int MASCARA = POSICOES - 1;
+    private static final int NIVEIS = 4;
+    private static final long ALCANCE = 1L << (BITS * NIVEIS);
+
+    private final Bloqueio[] cabecas = new Bloqueio[NIVEIS * POSICOES];
+    private long tickAtual;
+    private int quantidade;
+
+    RodaTemporizacao(long tickInicial) {
+        this.tickAtual = tickInicial;
+    }
+
+    void adicionar(Bloqueio bloqueio) {
+        // Prazo já vencido expira no próximo tick
+        posicionar(bloqueio, tickAtual + 1);
+    }
+
+    private void posicionar(Bloqueio bloqueio, long expiracaoMinima) {
+        long expiracao = Math.max(bloqueio.expiracao, expiracaoMinima);
+        long delta = expiracao - tickAtual;
+        if (delta >= ALCANCE) {
+            expiracao = tickAtual + ALCANCE - 1;
+            delta = ALCANCE - 1;
+        }
+        int nivel = 0;
+        while (delta >= 1L << (BITS * (nivel + 1))) {
+            nivel++;
+        }
+        int posicao = nivel * POSICOES + (int) ((expiracao >>> (BITS * nivel)) & MASCARA);
+
+        bloqueio.posicao = posicao;
+        bloqueio.anterior = null;
+        bloqueio.proximo = cabecas[posicao];
+        if (cabecas[posicao] != null) {
+            cabecas[posicao].anterior = bloqueio;
+        }
+        cabecas[posicao] = bloqueio;
+        quantidade++;
+    }
+
+    void remover(Bloqueio bloqueio) {
+        if (bloqueio.anterior != null) {
+            bloqueio.anterior.proximo = bloqueio.proximo;
+        } else {
+            cabecas[bloqueio.posicao] = bloqueio.proximo;
+        }
+        if (bloqueio.proximo != null) {
+            bloqueio.proximo.anterior = bloqueio.anterior;
+        }
+        bloqueio.anterior = null;
+        bloqueio.proximo = null;
+        quantidade--;
+    }
+
+    /**
+     * Avança tick a tick até o alvo, entregando os bloqueios vencidos
+     */
+    void avancarAte(long tickAlvo, Consumer<Bloqueio> aoExpirar) {
+        while (tickAtual < tickAlvo) {
+            tickAtual++;
+            for (int nivel = 1; nivel < NIVEIS; nivel++) {
+                if ((tickAtual & ((1L << (BITS * nivel)) - 1)) != 0) {
+                    break;
+                }
+                redistribuir(nivel * POSICOES + (int) ((tickAtual >>> (BITS * nivel)) & MASCARA), null);
+            }
+            redistribuir((int) (tickAtual & MASCARA), aoExpirar);
+        }
+    }
+
+    private void redistribuir(int posicao, Consumer<Bloqueio> aoExpirar) {
+        Bloqueio bloqueio = cabecas[posicao];
+        cabecas[posicao] = null;
+        while (bloqueio != null) {
+            Bloqueio proximo = bloqueio.proximo;
+            bloqueio.anterior = null;
+            bloqueio.proximo = null;
+            quantidade--;
+            if (aoExpirar != null && bloqueio.expiracao <= tickAtual) {
+                aoExpirar.accept(bloqueio);
+            } else {
+                // Na redistribuição o prazo pode ser o próprio tick: cai na posição
+                // do nível 0 que ainda vai ser visitada neste tick
+                posicionar(bloqueio, tickAtual);
+            }
+            bloqueio = proximo;
+        }
+    }
+
+    long getTickAtual() {
+        return tickAtual;
+    }
+
+    int getQuantidade() {
+        return quantidade;
+    }
+}
@@ -0,0 +1,206 @@
+package banco.carga;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do driver de carga, lidos de argumentos no formato chave=valor:
+ *
+ *   contas=100000              quantidade de contas geradas
+ *   tipos=corrente:50,poupanca:30,jovem:20
+ *   operacoes=deposito:30,saque:30,transferencia:20,saldo:15,rendimento:4,estatistica:1
+ *   threads=4                  threads de carga
+ *   duracao=30                 segundos medidos
+ *   aquecimento=5              segundos de aquecimento (não entram no relatório)
+ *   zipf=0.99                  inclinação da escolha das contas (0 = uniforme)
+ *   semente=42                 semente da geração das contas
+ */
+public class ConfiguracaoCarga {
+    private int contas = 100_000;
+    private int pesoCorrente = 50;
+    private int pesoPoupanca = 30;
+    private int pesoJovem = 20;
+    private final Map<OperacaoCarga, Integer> pesosOperacoes = new EnumMap<>(OperacaoCarga.class);
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int duracaoSegundos = 30;
+    private int aquecimentoSegundos = 5;
+    private double zipf = 0.99;
+    private long semente = 42;
+
+    public ConfiguracaoCarga() {
+        pesosOperacoes.put(OperacaoCarga.DEPOSITO, 30);
+        pesosOperacoes.put(OperacaoCarga.SAQUE, 30);
+        pesosOperacoes.put(OperacaoCarga.TRANSFERENCIA, 20);
+        pesosOperacoes.put(OperacaoCarga.SALDO, 15);
+        pesosOperacoes.put(OperacaoCarga.RENDIMENTO, 4);
+        pesosOperacoes.put(OperacaoCarga.ESTATISTICA, 1);
+    }
+
+    public static ConfiguracaoCarga de(String[] args) {
+        ConfiguracaoCarga configuracao = new ConfiguracaoCarga();
+        for (String argumento : args) {
+            int separador = argumento.indexOf('=');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Argumento deve ser chave=valor: " + argumento);
+            }
+            configuracao.definir(argumento.substring(0, separador).trim(), argumento.substring(separador + 1).trim());
+        }
+        return configuracao;
+    }
+
+    private void definir(String chave, String valor) {
+        switch (chave) {
+            case "contas":
+                contas = positivo(chave, Integer.parseInt(valor));
+                break;
+            case "tipos":
+                definirTipos(valor);
+                break;
+            case "operacoes":
+                definirOperacoes(valor);
+                break;
+            case "threads":
+                threads = positivo(chave, Integer.parseInt(valor));
+                break;
+            case "duracao":
+                duracaoSegundos = positivo(chave, Integer.parseInt(valor));
+                break;
+            case "aquecimento":
+                aquecimentoSegundos = Integer.parseInt(valor);
+                if (aquecimentoSegundos < 0) {
+                    throw new IllegalArgumentException("aquecimento não pode ser negativo: " + valor);
+                }
+                break;
+            case "zipf":
+                zipf = Double.parseDouble(valor);
+                if (zipf < 0 || zipf >= 1) {
+                    throw new IllegalArgumentException("zipf deve estar entre 0 (inclusive) e 1 (exclusive): " + valor);
+                }
+                break;
+            case "semente":
+                semente = Long.parseLong(valor);
+                break;
+            default:
+                throw new IllegalArgumentException("Parâmetro desconhecido: " + chave);
+        }
+    }
+
+    private static int positivo(String chave, int valor) {
+        if (valor <= 0) {
+            throw new IllegalArgumentException(chave + " deve ser maior que zero: " + valor);
+        }
+        return valor;
+    }
+
+    // Cada item das listas de pesos é nome:peso
+    private static String[] separarPeso(String chave, String item) {
+        String[] partes = item.split(":", -1);
+        if (partes.length != 2 || partes[0].trim().isEmpty()) {
+            throw new IllegalArgumentException(chave + " deve ser uma lista de nome:peso: " + item);
+        }
+        return partes;
+    }
+
+    private static int lerPeso(String chave, String[] partes) {
+        int peso;
+        try {
+            peso = Integer.parseInt(partes[1].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Peso inválido em " + chave + ": " + partes[0].trim() + ":" + partes[1]);
+        }
+        if (peso < 0) {
+            throw new IllegalArgumentException("Peso negativo em " + chave + ": " + partes[0].trim() + ":" + peso);
+        }
+        return peso;
+    }
+
+    private void definirTipos(String valor) {
+        pesoCorrente = 0;
+        pesoPoupanca = 0;
+        pesoJovem = 0;
+        for (String item : valor.split(",")) {
+            String[] partes = separarPeso("tipos", item);
+            int peso = lerPeso("tipos", partes);
+            switch (partes[0].trim().toLowerCase()) {
+                case "corrente":
+                    pesoCorrente = peso;
+                    break;
+                case "poupanca":
+                    pesoPoupanca = peso;
+                    break;
+                case "jovem":
+                    pesoJovem = peso;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Tipo de conta desconhecido: " + partes[0]);
+            }
+        }
+        if (pesoCorrente + pesoPoupanca + pesoJovem <= 0) {
+            throw new IllegalArgumentException("Informe ao menos um tipo de conta com peso positivo");
+        }
+    }
+
+    private void definirOperacoes(String valor) {
+        pesosOperacoes.clear();
+        for (String item : valor.split(",")) {
+            String[] partes = separarPeso("operacoes", item);
+            pesosOperacoes.put(OperacaoCarga.porNome(partes[0].trim()), lerPeso("operacoes", partes));
+        }
+        if (pesosOperacoes.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Informe ao menos uma operação com peso positivo");
+        }
+    }
+
+    public int getContas() {
+        return contas;
+    }
+
+    public int getPesoCorrente() {
+        return pesoCorrente;
+    }
+
+    public int getPesoPoupanca() {
+        return pesoPoupanca;
+    }
+
+    public int getPesoJovem() {
+        return pesoJovem;
+    }
+
+    public int getPesoOperacao(OperacaoCarga operacao) {
+        return pesosOperacoes.getOrDefault(operacao, 0);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getDuracaoSegundos() {
+        return duracaoSegundos;
+    }
+
+    public int getAquecimentoSegundos() {
+        return aquecimentoSegundos;
+    }
+
+    public double getZipf() {
+        return zipf;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfiguracaoCarga{" +
+                "contas=" + contas +
+                ", tipos=corrente:" + pesoCorrente + ",poupanca:" + pesoPoupanca + ",jovem:" + pesoJovem +
+                ", operacoes=" + pesosOperacoes +
+                ", threads=" + threads +
+                ", duracao=" + duracaoSegundos + "s" +
+                ", aquecimento=" + aquecimentoSegundos + "s" +
+                ", zipf=" + zipf +
+                '}';
+    }
+}
@@ -0,0 +1,352 @@
+package banco.carga;
+
+import banco.interfaces.Rendimento;
+import banco.model.Banco;
+import banco.model.Conta;
+import banco.model.ContaCorrente;
+import banco.model.ContaJovem;
+import banco.model.ContaPoupanca;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Driver de carga sintética: gera N contas com a mistura de tipos configurada
+ * e dispara, em T threads e por um tempo fixo, uma mistura de depósitos,
+ * saques, transferências, consultas, rendimentos e estatísticas.
+ * A escolha das contas segue uma distribuição de Zipf (contas "quentes").
+ *
+ * Ao final mostra vazão, percentis de latência e taxa de recusa por operação,
+ * além das coletas de GC e da memória alocada no período medido.
+ *
+ * Uso: java -cp bin banco.carga.DriverCarga [chave=valor ...] (ver ConfiguracaoCarga)
+ */
+public class DriverCarga {
+    private static final OperacaoCarga[] OPERACOES = OperacaoCarga.values();
+
+    private final ConfiguracaoCarga configuracao;
+    private Banco banco;
+    private Conta[] contas;
+    private Conta[] contasComRendimento;
+
+    public DriverCarga(ConfiguracaoCarga configuracao) {
+        this.configuracao = configuracao;
+    }
+
+    /**
+     * Cria o banco com as contas sintéticas
+     */
+    public void preparar() {
+        Conta.setMensagensAtivas(false);
+        banco = new Banco("Banco Carga", "00.000.000/0001-00");
+        Random aleatorio = new Random(configuracao.getSemente());
+        int pesoTotal = configuracao.getPesoCorrente() + configuracao.getPesoPoupanca() + configuracao.getPesoJovem();
+        LocalDate hoje = LocalDate.now();
+        List<Conta> comRendimento = new ArrayList<>();
+
+        contas = new Conta[configuracao.getContas()];
+        for (int i = 0; i < contas.length; i++) {
+            String numero = String.valueOf(i);
+            double saldo = 100 + aleatorio.nextInt(10_000);
+            int sorteio = aleatorio.nextInt(pesoTotal);
+            Conta conta;
+            if (sorteio < configuracao.getPesoCorrente()) {
+                conta = new ContaCorrente(numero, "Titular " + i, saldo);
+            } else if (sorteio < configuracao.getPesoCorrente() + configuracao.getPesoPoupanca()) {
+                conta = new ContaPoupanca(numero, "Titular " + i, saldo);
+            } else {
+                LocalDate nascimento = hoje.minusYears(ContaJovem.IDADE_MINIMA + aleatorio.nextInt(
+                        ContaJovem.IDADE_MAXIMA - ContaJovem.IDADE_MINIMA)).minusDays(1 + aleatorio.nextInt(300));
+                conta = new ContaJovem(numero, "Titular " + i, saldo, nascimento);
+            }
+            banco.adicionarConta(conta);
+            contas[i] = conta;
+            if (conta instanceof Rendimento) {
+                comRendimento.add(conta);
+            }
+        }
+        contasComRendimento = comRendimento.toArray(new Conta[0]);
+        System.out.println(contas.length + " contas criadas (" + contasComRendimento.length + " com rendimento).");
+    }
+
+    /**
+     * Aquece a JVM, mede pelo tempo configurado e imprime o relatório
+     */
+    public void executar() throws InterruptedException {
+        if (configuracao.getAquecimentoSegundos() > 0) {
+            System.out.println("Aquecendo por " + configuracao.getAquecimentoSegundos() + "s...");
+            rodar(configuracao.getAquecimentoSegundos());
+        }
+
+        System.out.println("Medindo por " + configuracao.getDuracaoSegundos() + "s...");
+        long coletasAntes = totalColetas();
+        long tempoGcAntes = tempoColetas();
+        long inicio = System.nanoTime();
+        List<Trabalhador> trabalhadores = rodar(configuracao.getDuracaoSegundos());
+        double decorrido = (System.nanoTime() - inicio) / 1e9;
+
+        imprimirRelatorio(trabalhadores, decorrido, totalColetas() - coletasAntes, tempoColetas() - tempoGcAntes);
+    }
+
+    private List<Trabalhador> rodar(int segundos) throws InterruptedException {
+        GeradorZipf zipfContas = new GeradorZipf(contas.length, configuracao.getZipf());
+        GeradorZipf zipfRendimento = contasComRendimento.length > 0
+                ? new GeradorZipf(contasComRendimento.length, configuracao.getZipf()) : null;
+        int[] pesosAcumulados = new int[OPERACOES.length];
+        int acumulado = 0;
+        for (int i = 0; i < OPERACOES.length; i++) {
+            acumulado += configuracao.getPesoOperacao(OPERACOES[i]);
+            pesosAcumulados[i] = acumulado;
+        }
+
+        long fim = System.nanoTime() + segundos * 1_000_000_000L;
+        List<Trabalhador> trabalhadores = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < configuracao.getThreads(); i++) {
+            Trabalhador trabalhador = new Trabalhador(zipfContas, zipfRendimento, pesosAcumulados, fim);
+            Thread thread = new Thread(trabalhador, "carga-" + i);
+            trabalhadores.add(trabalhador);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Uma thread que morreu deixaria o relatório incompleto - a execução inteira falha
+        for (Trabalhador trabalhador : trabalhadores) {
+            if (trabalhador.falha != null) {
+                throw new IllegalStateException("Thread de carga falhou", trabalhador.falha);
+            }
+        }
+        return trabalhadores;
+    }
+
+    /**
+     * Uma thread de carga - guarda as próprias estatísticas, somadas no fim
+     */
+    private class Trabalhador implements Runnable {
+        private final GeradorZipf zipfContas;
+        private final GeradorZipf zipfRendimento;
+        private final int[] pesosAcumulados;
+        private final long fim;
+        private final long[] executadas = new long[OPERACOES.length];
+        private final long[] recusadas = new long[OPERACOES.length];
+        private final HistogramaLatencia[] latencias = new HistogramaLatencia[OPERACOES.length];
+        private long bytesAlocados = -1;
+        private double somaEstatisticas;
+        private volatile RuntimeException falha;
+
+        Trabalhador(GeradorZipf zipfContas, GeradorZipf zipfRendimento, int[] pesosAcumulados, long fim) {
+            this.zipfContas = zipfContas;
+            this.zipfRendimento = zipfRendimento;
+            this.pesosAcumulados = pesosAcumulados;
+            this.fim = fim;
+            for (int i = 0; i < OPERACOES.length; i++) {
+                latencias[i] = new HistogramaLatencia();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                gerarCarga();
+            } catch (RuntimeException e) {
+                falha = e;
+            }
+        }
+
+        private void gerarCarga() {
+            long alocadosAntes = bytesAlocadosThread();
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            int pesoTotal = pesosAcumulados[pesosAcumulados.length - 1];
+            long agora = System.nanoTime();
+
+            while (agora < fim) {
+                int sorteio = aleatorio.nextInt(pesoTotal);
+                int operacao = 0;
+                while (sorteio >= pesosAcumulados[operacao]) {
+                    operacao++;
+                }
+
+                boolean aceita = executar(OPERACOES[operacao], aleatorio);
+                long depois = System.nanoTime();
+                latencias[operacao].registrar(depois - agora);
+                executadas[operacao]++;
+                if (!aceita) {
+                    recusadas[operacao]++;
+                }
+                agora = depois;
+            }
+
+            long alocadosDepois = bytesAlocadosThread();
+            if (alocadosAntes >= 0 && alocadosDepois >= 0) {
+                bytesAlocados = alocadosDepois - alocadosAntes;
+            }
+        }
+
+        private boolean executar(OperacaoCarga operacao, ThreadLocalRandom aleatorio) {
+            double valor = 1 + aleatorio.nextInt(100);
+            switch (operacao) {
+                case DEPOSITO: {
+                    Conta conta = contas[(int) zipfContas.proximo()];
+                    synchronized (conta) {
+                        return conta.realizarDeposito(valor);
+                    }
+                }
+                case SAQUE: {
+                    Conta conta = contas[(int) zipfContas.proximo()];
+                    synchronized (conta) {
+                        return conta.realizarSaque(valor);
+                    }
+                }
+                case TRANSFERENCIA:
+                    return transferir((int) zipfContas.proximo(), (int) zipfContas.proximo(), valor);
+                case SALDO:
+                    return contas[(int) zipfContas.proximo()].consultarSaldo() >= Double.NEGATIVE_INFINITY;
+                case RENDIMENTO: {
+                    if (zipfRendimento == null) {
+                        return false;
+                    }
+                    Conta conta = contasComRendimento[(int) zipfRendimento.proximo()];
+                    synchronized (conta) {
+                        ((Rendimento) conta).aplicarRendimento();
+                    }
+                    return true;
+                }
+                case ESTATISTICA:
+                    somaEstatisticas += calcularEstatisticas();
+                    return true;
+                default:
+                    throw new IllegalStateException("Operação não tratada: " + operacao);
+            }
+        }
+
+        // Trava as duas contas sempre na mesma ordem para não haver deadlock
+        private boolean transferir(int indiceOrigem, int indiceDestino, double valor) {
+            if (indiceOrigem == indiceDestino) {
+                indiceDestino = (indiceDestino + 1) % contas.length;
+            }
+            Conta origem = contas[indiceOrigem];
+            Conta destino = contas[indiceDestino];
+            Conta primeira = indiceOrigem < indiceDestino ? origem : destino;
+            Conta segunda = primeira == origem ? destino : origem;
+            synchronized (primeira) {
+                synchronized (segunda) {
+                    if (!destino.isContaAtiva() || !origem.realizarSaque(valor)) {
+                        return false;
+                    }
+                    destino.realizarDeposito(valor);
+                    return true;
+                }
+            }
+        }
+
+        // Mesmas contas de Banco.gerarEstatisticas, sem imprimir
+        private double calcularEstatisticas() {
+            double saldoTotal = 0;
+            int contasCorrente = 0;
+            for (Conta conta : contas) {
+                saldoTotal += conta.getSaldo();
+                if (conta instanceof ContaCorrente) {
+                    contasCorrente++;
+                }
+            }
+            return saldoTotal + contasCorrente;
+        }
+    }
+
+    private void imprimirRelatorio(List<Trabalhador> trabalhadores, double decorrido, long coletas, long tempoGcMillis) {
+        long[] executadas = new long[OPERACOES.length];
+        long[] recusadas = new long[OPERACOES.length];
+        HistogramaLatencia[] latencias = new HistogramaLatencia[OPERACOES.length];
+        for (int i = 0; i < OPERACOES.length; i++) {
+            latencias[i] = new HistogramaLatencia();
+        }
+        long bytesAlocados = 0;
+        boolean alocacaoDisponivel = true;
+        for (Trabalhador trabalhador : trabalhadores) {
+            for (int i = 0; i < OPERACOES.length; i++) {
+                executadas[i] += trabalhador.executadas[i];
+                recusadas[i] += trabalhador.recusadas[i];
+                latencias[i].somar(trabalhador.latencias[i]);
+            }
+            if (trabalhador.bytesAlocados < 0) {
+                alocacaoDisponivel = false;
+            }
+            bytesAlocados += trabalhador.bytesAlocados;
+        }
+        long total = 0;
+        for (long quantidade : executadas) {
+            total += quantidade;
+        }
+
+        System.out.println("\n=== RESULTADO DA CARGA ===");
+        System.out.println(configuracao);
+        System.out.printf("Tempo medido: %.1f s - Operações: %d - Vazão: %.0f ops/s%n", decorrido, total, total / decorrido);
+        System.out.printf("%-14s %12s %12s %9s %9s %9s %9s %9s %10s%n",
+                "Operação", "Quantidade", "ops/s", "Recusa", "p50 µs", "p90 µs", "p99 µs", "p99.9 µs", "máx µs");
+        for (int i = 0; i < OPERACOES.length; i++) {
+            if (executadas[i] == 0) {
+                continue;
+            }
+            HistogramaLatencia latencia = latencias[i];
+            System.out.printf("%-14s %12d %12.0f %8.2f%% %9.1f %9.1f %9.1f %9.1f %10.1f%n",
+                    OPERACOES[i].getNome(), executadas[i], executadas[i] / decorrido,
+                    100.0 * recusadas[i] / executadas[i],
+                    latencia.percentil(0.50) / 1e3, latencia.percentil(0.90) / 1e3,
+                    latencia.percentil(0.99) / 1e3, latencia.percentil(0.999) / 1e3,
+                    latencia.getMaximo() / 1e3);
+        }
+
+        System.out.println("GC: " + coletas + " coleta(s), " + tempoGcMillis + " ms no total");
+        for (GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans()) {
+            System.out.println("  " + coletor.getName() + ": " + coletor.getCollectionCount()
+                    + " coleta(s) desde o início, " + coletor.getCollectionTime() + " ms");
+        }
+        if (alocacaoDisponivel && total > 0) {
+            System.out.printf("Alocação nas threads de carga: %.1f MB (%.0f bytes/op)%n",
+                    bytesAlocados / (1024.0 * 1024.0), (double) bytesAlocados / total);
+        } else {
+            System.out.println("Alocação por thread não suportada por esta JVM.");
+        }
+    }
+
+    private static long totalColetas() {
+        long total = 0;
+        for (GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, coletor.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long tempoColetas() {
+        long total = 0;
+        for (GarbageCollectorMXBean coletor : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, coletor.getCollectionTime());
+        }
+        return total;
+    }
+
+    // -1 quando a JVM não expõe a memória alocada por thread
+    private static long bytesAlocadosThread() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threadsHotSpot = (com.sun.management.ThreadMXBean) threads;
+            if (threadsHotSpot.isThreadAllocatedMemorySupported() && threadsHotSpot.isThreadAllocatedMemoryEnabled()) {
+                return threadsHotSpot.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        DriverCarga driver = new DriverCarga(ConfiguracaoCarga.de(args));
+        driver.preparar();
+        driver.executar();
+    }
+}
@@ -0,0 +1,58 @@
+package banco.carga;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorteia índices de 0 a n-1 com distribuição de Zipf (algoritmo de Gray et al.,
+ * o mesmo do YCSB): o índice 0 é a conta mais "quente", o 1 a segunda, etc.
+ * O custo por sorteio é O(1); a constante zeta(n) é calculada uma vez.
+ *
+ * Pode ser compartilhado entre threads - só guarda constantes.
+ */
+public class GeradorZipf {
+    private final long quantidade;
+    private final double theta;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+    private final double limiteSegundo;
+
+    /**
+     * @param theta inclinação: 0 é uniforme, perto de 1 concentra nas primeiras contas (deve ser menor que 1)
+     */
+    public GeradorZipf(long quantidade, double theta) {
+        if (theta < 0 || theta >= 1) {
+            throw new IllegalArgumentException("Theta deve estar entre 0 e 1 (exclusive): " + theta);
+        }
+        this.quantidade = quantidade;
+        this.theta = theta;
+        this.zetaN = zeta(quantidade, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / quantidade, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+        this.limiteSegundo = 1 + Math.pow(0.5, theta);
+    }
+
+    public long proximo() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        if (theta == 0) {
+            return aleatorio.nextLong(quantidade);
+        }
+        double u = aleatorio.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < limiteSegundo) {
+            return 1;
+        }
+        return Math.min(quantidade - 1, (long) (quantidade * Math.pow(eta * u - eta + 1, alpha)));
+    }
+
+    private static double zeta(long n, double theta) {
+        double soma = 0;
+        for (long i = 1; i <= n; i++) {
+            soma += 1 / Math.pow(i, theta);
+        }
+        return soma;
+    }
+}
@@ -0,0 +1,78 @@
+package banco.carga;
+
+/**
+ * Histograma de latências em nanossegundos com baldes log-lineares
+ * (32 baldes por potência de 2, erro relativo abaixo de ~3%).
+ * Registrar é O(1) e sem alocação; não é thread-safe - cada thread
+ * usa o seu e eles são somados no final.
+ */
+public class HistogramaLatencia {
+    private static final int BITS_SUB_BALDE = 5;
+    private static final int SUB_BALDES = 1 << BITS_SUB_BALDE;
+
+    private final long[] contagens = new long[(64 - BITS_SUB_BALDE + 1) * SUB_BALDES];
+    private long quantidade;
+    private long maximo;
+
+    public void registrar(long nanos) {
+        long valor = Math.max(0L, nanos);
+        contagens[indice(valor)]++;
+        quantidade++;
+        if (valor > maximo) {
+            maximo = valor;
+        }
+    }
+
+    public void somar(HistogramaLatencia outro) {
+        for (int i = 0; i < contagens.length; i++) {
+            contagens[i] += outro.contagens[i];
+        }
+        quantidade += outro.quantidade;
+        maximo = Math.max(maximo, outro.maximo);
+    }
+
+    /**
+     * Latência abaixo da qual está a fração p das amostras
+     * @param p fração entre 0 e 1 (ex.: 0.99)
+     */
+    public long percentil(double p) {
+        if (quantidade == 0) {
+            return 0;
+        }
+        long posicao = Math.max(1L, (long) Math.ceil(p * quantidade));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= posicao) {
+                return Math.min(limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public long getMaximo() {
+        return maximo;
+    }
+
+    private static int indice(long valor) {
+        if (valor < SUB_BALDES) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int subBalde = (int) ((valor >>> (expoente - BITS_SUB_BALDE)) & (SUB_BALDES - 1));
+        return (expoente - BITS_SUB_BALDE + 1) * SUB_BALDES + subBalde;
+    }
+
+    private static long limiteSuperior(int indice) {
+        if (indice < SUB_BALDES) {
+            return indice;
+        }
+        int expoente = indice / SUB_BALDES + BITS_SUB_BALDE - 1;
+        int subBalde = indice % SUB_BALDES;
+        return ((SUB_BALDES + subBalde + 1L) << (expoente - BITS_SUB_BALDE)) - 1;
+    }
+}
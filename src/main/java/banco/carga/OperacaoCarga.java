@@ -0,0 +1,32 @@
+package banco.carga;
+
+/**
+ * Operações que o driver de carga sorteia para cada requisição sintética
+ */
+public enum OperacaoCarga {
+    DEPOSITO("deposito"),
+    SAQUE("saque"),
+    TRANSFERENCIA("transferencia"),
+    SALDO("saldo"),
+    RENDIMENTO("rendimento"),
+    ESTATISTICA("estatistica");
+
+    private final String nome;
+
+    OperacaoCarga(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public static OperacaoCarga porNome(String nome) {
+        for (OperacaoCarga operacao : values()) {
+            if (operacao.nome.equalsIgnoreCase(nome)) {
+                return operacao;
+            }
+        }
+        throw new IllegalArgumentException("Operação desconhecida: " + nome);
+    }
+}
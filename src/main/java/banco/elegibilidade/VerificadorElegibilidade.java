@@ -0,0 +1,133 @@
+package banco.elegibilidade;
+
+import banco.interfaces.ObservadorConta;
+import banco.model.Banco;
+import banco.model.Conta;
+import banco.model.ContaJovem;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Serviço em segundo plano que tira da Conta Jovem os titulares que passaram
+ * da idade máxima.
+ *
+ * As contas ficam indexadas pela data em que deixam de ser elegíveis, então a
+ * varredura diária só visita as contas que cruzaram o limite (O(k)),
+ * em vez de recalcular a idade de todas as contas do banco.
+ */
+public class VerificadorElegibilidade implements ObservadorConta {
+    private final Banco banco;
+    private final Consumer<ContaJovem> aoPerderElegibilidade;
+    private final TreeMap<LocalDate, List<ContaJovem>> contasPorDataLimite;
+    private final Set<String> contasIndexadas;
+    private ScheduledExecutorService agendador;
+
+    // Construtor com SOBRECARGA (overload) - por padrão apenas desativa a conta
+    public VerificadorElegibilidade(Banco banco) {
+        this(banco, conta -> conta.setAtiva(false));
+    }
+
+    // Construtor com SOBRECARGA (overload) - ação customizada (ex.: migrar a conta)
+    public VerificadorElegibilidade(Banco banco, Consumer<ContaJovem> aoPerderElegibilidade) {
+        this.banco = banco;
+        this.aoPerderElegibilidade = aoPerderElegibilidade;
+        this.contasPorDataLimite = new TreeMap<>();
+        this.contasIndexadas = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Indexa as contas existentes, acompanha as novas e agenda a varredura diária
+     */
+    public void iniciar() {
+        banco.adicionarObservador(this);
+        for (Conta conta : banco.copiarContas()) {
+            contaAlterada(conta);
+        }
+
+        agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "verificador-elegibilidade");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long ateMeiaNoite = Duration.between(LocalDateTime.now(),
+                LocalDate.now().plusDays(1).atStartOfDay()).toMillis();
+        agendador.execute(this::varrerHoje);
+        agendador.scheduleAtFixedRate(this::varrerHoje, ateMeiaNoite, TimeUnit.DAYS.toMillis(1),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void parar() {
+        banco.removerObservador(this);
+        if (agendador != null) {
+            agendador.shutdownNow();
+        }
+    }
+
+    /**
+     * Só faz trabalho na primeira vez que vê cada Conta Jovem
+     */
+    @Override
+    public void contaAlterada(Conta conta) {
+        if (conta instanceof ContaJovem && contasIndexadas.add(conta.getNumero())) {
+            indexar((ContaJovem) conta);
+        }
+    }
+
+    private synchronized void indexar(ContaJovem conta) {
+        contasPorDataLimite.computeIfAbsent(conta.getDataFimElegibilidade(), data -> new ArrayList<>()).add(conta);
+    }
+
+    private void varrerHoje() {
+        int afetadas = varrer(LocalDate.now());
+        if (afetadas > 0) {
+            System.out.println("Elegibilidade: " + afetadas + " conta(s) jovem(ns) passaram da idade máxima.");
+        }
+    }
+
+    /**
+     * Aplica a ação nas contas cuja data limite já chegou e as remove do índice
+     * @param hoje data de referência
+     * @return quantidade de contas ativas afetadas
+     */
+    public int varrer(LocalDate hoje) {
+        List<ContaJovem> vencidas = new ArrayList<>();
+        synchronized (this) {
+            Map.Entry<LocalDate, List<ContaJovem>> entrada;
+            while ((entrada = contasPorDataLimite.firstEntry()) != null && !entrada.getKey().isAfter(hoje)) {
+                contasPorDataLimite.pollFirstEntry();
+                vencidas.addAll(entrada.getValue());
+            }
+        }
+
+        int afetadas = 0;
+        for (ContaJovem conta : vencidas) {
+            if (conta.isAtiva()) {
+                aoPerderElegibilidade.accept(conta);
+                afetadas++;
+            }
+        }
+        return afetadas;
+    }
+
+    /**
+     * Quantidade de contas ainda aguardando a data limite
+     */
+    public synchronized int getQuantidadeIndexadas() {
+        int total = 0;
+        for (List<ContaJovem> contas : contasPorDataLimite.values()) {
+            total += contas.size();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,160 @@
+package banco.indice;
+
+import banco.interfaces.ObservadorConta;
+import banco.model.Banco;
+import banco.model.Conta;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Índice ordenado por saldo, opcional, mantido a cada alteração de conta.
+ * Responde "maiores saldos", "saldos entre X e Y" e "contas de um tipo abaixo
+ * de um valor" em tempo logarítmico (mais o tamanho do resultado), sem
+ * ordenar ou filtrar Banco.getContas().
+ *
+ * Usa ConcurrentSkipListSet, então consultas e atualizações podem acontecer
+ * em threads diferentes ao mesmo tempo.
+ */
+public class IndiceSaldos implements ObservadorConta {
+    private static final Comparator<Entrada> POR_SALDO =
+            Comparator.comparingDouble((Entrada e) -> e.saldo).thenComparing(e -> e.numero);
+
+    private final Banco banco;
+    private final NavigableSet<Entrada> todas;
+    private final Map<Class<? extends Conta>, NavigableSet<Entrada>> porTipo;
+    // Última entrada de cada conta - necessária para remover a posição antiga
+    private final ConcurrentHashMap<String, Entrada> atuais;
+
+    public IndiceSaldos(Banco banco) {
+        this.banco = banco;
+        this.todas = new ConcurrentSkipListSet<>(POR_SALDO);
+        this.porTipo = new ConcurrentHashMap<>();
+        this.atuais = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Indexa as contas existentes e passa a acompanhar as alterações
+     */
+    public void iniciar() {
+        banco.adicionarObservador(this);
+        for (Conta conta : banco.copiarContas()) {
+            contaAlterada(conta);
+        }
+    }
+
+    public void parar() {
+        banco.removerObservador(this);
+    }
+
+    @Override
+    public void contaAlterada(Conta conta) {
+        double saldo = conta.getSaldo();
+        Entrada anterior = atuais.get(conta.getNumero());
+        // Alterações que não mexem no saldo (status, limites) não reposicionam
+        if (anterior != null && anterior.saldo == saldo) {
+            return;
+        }
+        // compute é atômico por conta: duas atualizações da mesma conta não se misturam
+        atuais.compute(conta.getNumero(), (numero, antiga) -> {
+            NavigableSet<Entrada> doTipo = porTipo.computeIfAbsent(conta.getClass(),
+                    tipo -> new ConcurrentSkipListSet<>(POR_SALDO));
+            Entrada nova = new Entrada(conta.getSaldo(), numero, conta);
+            if (antiga != null) {
+                todas.remove(antiga);
+                doTipo.remove(antiga);
+            }
+            todas.add(nova);
+            doTipo.add(nova);
+            return nova;
+        });
+    }
+
+    /**
+     * Maiores saldos do banco, em ordem decrescente
+     */
+    public List<Conta> maioresSaldos(int quantidade) {
+        return primeiras(todas.descendingIterator(), quantidade);
+    }
+
+    // SOBRECARGA (overload) - maiores saldos de um tipo de conta
+    public List<Conta> maioresSaldos(Class<? extends Conta> tipo, int quantidade) {
+        NavigableSet<Entrada> doTipo = porTipo.get(tipo);
+        return doTipo == null ? new ArrayList<>() : primeiras(doTipo.descendingIterator(), quantidade);
+    }
+
+    /**
+     * Contas com saldo entre minimo e maximo (inclusive), em ordem crescente
+     */
+    public List<Conta> contasComSaldoEntre(double minimo, double maximo) {
+        return entre(todas, minimo, maximo);
+    }
+
+    // SOBRECARGA (overload) - filtra por tipo de conta
+    public List<Conta> contasComSaldoEntre(Class<? extends Conta> tipo, double minimo, double maximo) {
+        NavigableSet<Entrada> doTipo = porTipo.get(tipo);
+        return doTipo == null ? new ArrayList<>() : entre(doTipo, minimo, maximo);
+    }
+
+    /**
+     * Contas de um tipo com saldo estritamente abaixo do limite
+     * (ex.: poupanças abaixo do mínimo de R$ 50,00)
+     */
+    public List<Conta> contasComSaldoAbaixoDe(Class<? extends Conta> tipo, double limite) {
+        NavigableSet<Entrada> doTipo = porTipo.get(tipo);
+        List<Conta> resultado = new ArrayList<>();
+        if (doTipo != null) {
+            for (Entrada entrada : doTipo.headSet(new Entrada(limite, "", null), false)) {
+                resultado.add(entrada.conta);
+            }
+        }
+        return resultado;
+    }
+
+    public int getQuantidadeIndexadas() {
+        return atuais.size();
+    }
+
+    private static List<Conta> primeiras(Iterator<Entrada> entradas, int quantidade) {
+        List<Conta> resultado = new ArrayList<>(Math.min(quantidade, 1024));
+        while (resultado.size() < quantidade && entradas.hasNext()) {
+            resultado.add(entradas.next().conta);
+        }
+        return resultado;
+    }
+
+    private static List<Conta> entre(NavigableSet<Entrada> entradas, double minimo, double maximo) {
+        List<Conta> resultado = new ArrayList<>();
+        if (minimo > maximo) {
+            return resultado;
+        }
+        // Número vazio é o menor possível: o limite inferior inclui e o superior exclui tudo com aquele saldo
+        Entrada inicio = new Entrada(minimo, "", null);
+        Entrada fim = new Entrada(Math.nextUp(maximo), "", null);
+        for (Entrada entrada : entradas.subSet(inicio, true, fim, false)) {
+            resultado.add(entrada.conta);
+        }
+        return resultado;
+    }
+
+    /**
+     * Posição de uma conta no índice: o saldo fica congelado na entrada,
+     * para que a ordenação não mude enquanto ela está no conjunto
+     */
+    private static class Entrada {
+        private final double saldo;
+        private final String numero;
+        private final Conta conta;
+
+        Entrada(double saldo, String numero, Conta conta) {
+            this.saldo = saldo;
+            this.numero = numero;
+            this.conta = conta;
+        }
+    }
+}
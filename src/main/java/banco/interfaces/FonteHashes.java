@@ -0,0 +1,31 @@
+package banco.interfaces;
+
+import java.util.Map;
+
+/**
+ * Interface que define o contrato de uma árvore de hashes das contas
+ * (em memória, em arquivo ou remota) usada na reconciliação
+ */
+public interface FonteHashes {
+
+    /**
+     * Quantidade de folhas (partições de contas) da árvore
+     * @return quantidade de folhas, sempre uma potência de 2
+     */
+    int getQuantidadeFolhas();
+
+    /**
+     * Hash de um nó: 1 é a raiz, os filhos de n são 2n e 2n+1
+     * e as folhas vão de getQuantidadeFolhas() até 2 * getQuantidadeFolhas() - 1
+     * @param no índice do nó
+     * @return hash do nó
+     */
+    long getHashNo(int no);
+
+    /**
+     * Contas de uma partição com o hash do estado de cada uma
+     * @param folha índice da folha, de 0 a getQuantidadeFolhas() - 1
+     * @return mapa de número da conta para hash do estado
+     */
+    Map<String, Long> getContasDaFolha(int folha);
+}
@@ -0,0 +1,16 @@
+package banco.interfaces;
+
+import banco.model.Conta;
+
+/**
+ * Interface que define o contrato para quem precisa ser avisado
+ * sempre que o estado de uma conta for alterado (saldo, status, limites)
+ */
+public interface ObservadorConta {
+
+    /**
+     * Chamado após cada alteração confirmada no estado da conta
+     * @param conta conta que acabou de ser alterada
+     */
+    void contaAlterada(Conta conta);
+}
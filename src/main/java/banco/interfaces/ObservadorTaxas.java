@@ -0,0 +1,16 @@
+package banco.interfaces;
+
+import banco.taxas.TabelaTaxas;
+
+/**
+ * Interface que define o contrato para quem precisa ser avisado
+ * sempre que um produto de rendimento do CatalogoTaxas mudar
+ */
+public interface ObservadorTaxas {
+
+    /**
+     * Chamado após a criação de um produto ou a publicação de uma nova versão
+     * @param tabela versão que acabou de entrar em vigor no catálogo
+     */
+    void tabelaAlterada(TabelaTaxas tabela);
+}
@@ -1,5 +1,7 @@
 package banco.interfaces;
 
+import banco.taxas.TabelaTaxas;
+
 /**
  * Interface que demonstra o conceito de INTERFACE específica
  * Define contratos para contas que possuem rendimento
@@ -17,6 +19,14 @@ public interface Rendimento {
      * @return valor do rendimento aplicado
      */
     double aplicarRendimento();
+
+    /**
+     * Aplica o rendimento usando uma versão já obtida da tabela de taxas
+     * (processamentos em lote usam a mesma versão para todas as contas)
+     * @param tabela tabela de taxas do produto da conta
+     * @return valor do rendimento aplicado
+     */
+    double aplicarRendimento(TabelaTaxas tabela);
     
     /**
      * Obtém a taxa de rendimento da conta
@@ -29,4 +39,10 @@ public interface Rendimento {
      * @param taxa nova taxa de rendimento
      */
     void setTaxaRendimento(double taxa);
+
+    /**
+     * Obtém o produto de rendimento (tabela de taxas compartilhada) da conta
+     * @return id do produto no CatalogoTaxas
+     */
+    int getProdutoTaxa();
 } 
\ No newline at end of file
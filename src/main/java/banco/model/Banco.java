@@ -1,9 +1,17 @@
 package banco.model;
 
+import banco.interfaces.ObservadorConta;
 import banco.interfaces.OperacoesBancarias;
 import banco.interfaces.Rendimento;
+import banco.taxas.CatalogoTaxas;
+import banco.taxas.TabelaTaxas;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Classe que demonstra POLIMORFISMO
@@ -13,19 +21,49 @@ public class Banco {
     private String nome;
     private String cnpj;
     private List<Conta> contas;
+    // Índice por número - evita percorrer a lista inteira em buscarConta
+    private Map<String, Conta> contasPorNumero;
+    // Compartilhada com todas as contas do banco
+    private List<ObservadorConta> observadores;
+    private boolean usarVetores;
+
+    // Contas processadas por vez nos métodos em lote - os arrays cabem no cache
+    private static final int TAMANHO_LOTE = 8192;
+    private static final KernelsSaldo KERNELS_ESCALARES = new KernelsSaldoEscalar();
+    // null quando o módulo jdk.incubator.vector não foi habilitado
+    private static final KernelsSaldo KERNELS_VETORIAIS = carregarKernelsVetoriais();
 
     public Banco(String nome, String cnpj) {
         this.nome = nome;
         this.cnpj = cnpj;
         this.contas = new ArrayList<>();
+        this.contasPorNumero = new ConcurrentHashMap<>();
+        this.observadores = new CopyOnWriteArrayList<>();
+        this.usarVetores = true;
+    }
+
+    private static KernelsSaldo carregarKernelsVetoriais() {
+        try {
+            return (KernelsSaldo) Class.forName("banco.model.KernelsSaldoVetorial")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
     }
 
     /**
      * Demonstra POLIMORFISMO - aceita qualquer tipo de conta
      */
     public void adicionarConta(Conta conta) {
-        contas.add(conta);
-        System.out.println("Conta " + conta.getTipoConta() + " adicionada ao banco.");
+        conta.vincularObservadores(observadores);
+        synchronized (contas) {
+            contas.add(conta);
+            contasPorNumero.put(conta.getNumero(), conta);
+        }
+        for (ObservadorConta observador : observadores) {
+            observador.contaAlterada(conta);
+        }
+        Conta.exibirMensagem("Conta " + conta.getTipoConta() + " adicionada ao banco.");
     }
 
     /**
@@ -40,18 +78,188 @@ public class Banco {
 
     /**
      * Demonstra POLIMORFISMO - aplica rendimento em contas que implementam Rendimento
+     * As tabelas de taxas são lidas uma vez: uma mudança de taxa no meio
+     * do processamento não mistura versões diferentes.
+     * Contas inativas não recebem rendimento (regra da própria conta, a mesma do lote).
      */
     public void aplicarRendimentos() {
         System.out.println("\n=== APLICANDO RENDIMENTOS ===");
+        TabelaTaxas[] tabelas = CatalogoTaxas.getTabelas();
         for (Conta conta : contas) {
             if (conta instanceof Rendimento) {
                 Rendimento contaComRendimento = (Rendimento) conta;
-                double rendimento = contaComRendimento.aplicarRendimento();
+                int produto = contaComRendimento.getProdutoTaxa();
+                // Produto criado depois da fotografia ainda não está no array
+                TabelaTaxas tabela = produto < tabelas.length ? tabelas[produto] : CatalogoTaxas.getTabela(produto);
+                double rendimento = contaComRendimento.aplicarRendimento(tabela);
                 System.out.println("Rendimento aplicado na conta " + conta.getNumero() + ": R$ " + rendimento);
             }
         }
     }
 
+    /**
+     * Versão em lote de aplicarRendimentos para grandes volumes: junta saldos e
+     * taxas das contas com Rendimento em arrays, calcula tudo de uma vez
+     * (SIMD quando disponível) e grava os resultados de volta.
+     * Contas inativas não recebem rendimento, como em aplicarRendimentos.
+     * @return quantidade de contas que receberam rendimento
+     */
+    public int aplicarRendimentosEmLote() {
+        KernelsSaldo kernels = getKernels();
+        TabelaTaxas[] tabelas = CatalogoTaxas.getTabelas();
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDate hoje = agora.toLocalDate();
+        double[] taxasHoje = new double[tabelas.length];
+        for (int produto = 0; produto < tabelas.length; produto++) {
+            taxasHoje[produto] = tabelas[produto].getTaxa(hoje);
+        }
+
+        Conta[] lote = new Conta[TAMANHO_LOTE];
+        TabelaTaxas[] tabelasLote = new TabelaTaxas[TAMANHO_LOTE];
+        double[] originais = new double[TAMANHO_LOTE];
+        double[] saldos = new double[TAMANHO_LOTE];
+        double[] fatores = new double[TAMANHO_LOTE];
+        boolean[] ativas = new boolean[TAMANHO_LOTE];
+        int afetadas = 0;
+        int quantidade = 0;
+
+        for (Conta conta : contas) {
+            if (!(conta instanceof Rendimento)) {
+                continue;
+            }
+            int produto = ((Rendimento) conta).getProdutoTaxa();
+            TabelaTaxas tabela = produto < tabelas.length ? tabelas[produto] : CatalogoTaxas.getTabela(produto);
+            lote[quantidade] = conta;
+            tabelasLote[quantidade] = tabela;
+            originais[quantidade] = conta.saldo;
+            saldos[quantidade] = originais[quantidade];
+            ativas[quantidade] = conta.ativa;
+            if (conta instanceof ContaPoupanca) {
+                fatores[quantidade] = ((ContaPoupanca) conta).fatorRendimento(tabela, agora);
+            } else {
+                fatores[quantidade] = ((ContaJovem) conta).taxaRendimento(
+                        produto < taxasHoje.length ? taxasHoje[produto] : tabela.getTaxa(hoje));
+            }
+            if (++quantidade == TAMANHO_LOTE) {
+                kernels.aplicarRendimentos(saldos, fatores, ativas, quantidade);
+                afetadas += gravarRendimentos(lote, tabelasLote, originais, saldos, fatores, ativas, quantidade, agora);
+                quantidade = 0;
+            }
+        }
+        kernels.aplicarRendimentos(saldos, fatores, ativas, quantidade);
+        afetadas += gravarRendimentos(lote, tabelasLote, originais, saldos, fatores, ativas, quantidade, agora);
+        System.out.println("Rendimento aplicado em lote em " + afetadas + " contas.");
+        return afetadas;
+    }
+
+    // Grava com o lock de cada conta; se outra thread alterou a conta depois da leitura
+    // o rendimento é recalculado sobre o estado atual
+    private static int gravarRendimentos(Conta[] lote, TabelaTaxas[] tabelas, double[] originais, double[] saldos,
+                                         double[] fatores, boolean[] ativas, int quantidade, LocalDateTime agora) {
+        int afetadas = 0;
+        for (int i = 0; i < quantidade; i++) {
+            Conta conta = lote[i];
+            synchronized (conta) {
+                double novoSaldo = saldos[i];
+                if (conta.saldo != originais[i] || conta.ativa != ativas[i]) {
+                    double fator = conta instanceof ContaPoupanca
+                            ? ((ContaPoupanca) conta).fatorRendimento(tabelas[i], agora) : fatores[i];
+                    novoSaldo = conta.ativa && fator > 0 ? conta.saldo + conta.saldo * fator : conta.saldo;
+                }
+                if (novoSaldo != conta.saldo) {
+                    conta.saldo = novoSaldo;
+                    if (conta instanceof ContaPoupanca) {
+                        ((ContaPoupanca) conta).registrarRendimento(agora);
+                    }
+                    conta.notificarAlteracao();
+                    afetadas++;
+                }
+            }
+            lote[i] = null;
+            tabelas[i] = null;
+        }
+        return afetadas;
+    }
+
+    /**
+     * Versão em lote da cobrança de taxa de manutenção das contas correntes ativas
+     * (mesma regra de cobrarTaxaManutencao: só cobra se o saldo livre de bloqueios cobre a taxa)
+     * @return quantidade de contas cobradas
+     */
+    public int cobrarTaxasManutencaoEmLote() {
+        KernelsSaldo kernels = getKernels();
+        Conta[] lote = new Conta[TAMANHO_LOTE];
+        double[] originais = new double[TAMANHO_LOTE];
+        double[] saldos = new double[TAMANHO_LOTE];
+        double[] taxas = new double[TAMANHO_LOTE];
+        double[] bloqueados = new double[TAMANHO_LOTE];
+        boolean[] ativas = new boolean[TAMANHO_LOTE];
+        int cobradas = 0;
+        int quantidade = 0;
+
+        for (Conta conta : contas) {
+            if (!(conta instanceof ContaCorrente)) {
+                continue;
+            }
+            lote[quantidade] = conta;
+            originais[quantidade] = conta.saldo;
+            saldos[quantidade] = originais[quantidade];
+            taxas[quantidade] = ((ContaCorrente) conta).getTaxaManutencao();
+            bloqueados[quantidade] = conta.valorBloqueado;
+            ativas[quantidade] = conta.ativa;
+            if (++quantidade == TAMANHO_LOTE) {
+                kernels.cobrarTaxas(saldos, taxas, bloqueados, ativas, quantidade);
+                cobradas += gravarTaxas(lote, originais, saldos, bloqueados, ativas, quantidade);
+                quantidade = 0;
+            }
+        }
+        kernels.cobrarTaxas(saldos, taxas, bloqueados, ativas, quantidade);
+        cobradas += gravarTaxas(lote, originais, saldos, bloqueados, ativas, quantidade);
+        System.out.println("Taxa de manutenção cobrada em lote de " + cobradas + " contas.");
+        return cobradas;
+    }
+
+    // Conta alterada por outra thread depois da leitura: cobra pela regra conta a conta
+    private static int gravarTaxas(Conta[] lote, double[] originais, double[] saldos, double[] bloqueados,
+                                   boolean[] ativas, int quantidade) {
+        int alteradas = 0;
+        for (int i = 0; i < quantidade; i++) {
+            Conta conta = lote[i];
+            synchronized (conta) {
+                double saldoAnterior = conta.saldo;
+                if (saldoAnterior != originais[i] || conta.valorBloqueado != bloqueados[i] || conta.ativa != ativas[i]) {
+                    ((ContaCorrente) conta).cobrarTaxaManutencao();
+                } else if (saldos[i] != saldoAnterior) {
+                    conta.saldo = saldos[i];
+                    conta.notificarAlteracao();
+                }
+                if (conta.saldo != saldoAnterior) {
+                    alteradas++;
+                }
+            }
+            lote[i] = null;
+        }
+        return alteradas;
+    }
+
+    private KernelsSaldo getKernels() {
+        return usarVetores && KERNELS_VETORIAIS != null ? KERNELS_VETORIAIS : KERNELS_ESCALARES;
+    }
+
+    /**
+     * Indica se a Vector API está disponível (java --add-modules jdk.incubator.vector)
+     */
+    public static boolean isVetoresDisponiveis() {
+        return KERNELS_VETORIAIS != null;
+    }
+
+    /**
+     * Permite desligar os kernels SIMD e usar a versão escalar (ex.: para comparação)
+     */
+    public void setUsarVetores(boolean usarVetores) {
+        this.usarVetores = usarVetores;
+    }
+
     /**
      * Demonstra POLIMORFISMO - realiza operações usando a interface
      */
@@ -79,12 +287,19 @@ public class Banco {
      * Demonstra POLIMORFISMO - busca conta por número
      */
     public Conta buscarConta(String numero) {
-        for (Conta conta : contas) {
-            if (conta.getNumero().equals(numero)) {
-                return conta;
-            }
-        }
-        return null;
+        return contasPorNumero.get(numero);
+    }
+
+    /**
+     * Registra um observador que será avisado de toda alteração
+     * em qualquer conta do banco (inclusive contas adicionadas depois)
+     */
+    public void adicionarObservador(ObservadorConta observador) {
+        observadores.add(observador);
+    }
+
+    public void removerObservador(ObservadorConta observador) {
+        observadores.remove(observador);
     }
 
     /**
@@ -153,6 +368,16 @@ public class Banco {
         return contas;
     }
 
+    /**
+     * Cópia da lista de contas que pode ser percorrida enquanto outras threads
+     * adicionam contas (os observadores são avisados fora deste lock)
+     */
+    public List<Conta> copiarContas() {
+        synchronized (contas) {
+            return new ArrayList<>(contas);
+        }
+    }
+
     @Override
     public String toString() {
         return "Banco{" +
@@ -1,12 +1,19 @@
 package banco.model;
 
+import banco.interfaces.ObservadorConta;
 import banco.interfaces.OperacoesBancarias;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Classe abstrata que demonstra o conceito de ABSTRAÇÃO
  * Define o comportamento comum para todas as contas bancárias
  * Implementa a interface OperacoesBancarias
+ *
+ * Toda alteração de saldo e de bloqueio é synchronized na própria conta
+ * (inclusive nas classes filhas): um saque nunca usa um valor que outra
+ * thread acabou de reservar. Os observadores são avisados dentro desse lock.
  */
 public abstract class Conta implements OperacoesBancarias {
     protected String numero;
@@ -14,6 +21,12 @@ public abstract class Conta implements OperacoesBancarias {
     protected double saldo;
     protected LocalDateTime dataCriacao;
     protected boolean ativa;
+    // Soma dos bloqueios (autorizações) ainda não capturados nem liberados
+    protected volatile double valorBloqueado;
+    private static final double TOLERANCIA_RESERVA = 1e-6;
+    private static volatile boolean mensagensAtivas = true;
+    // Lista compartilhada com o Banco - não é copiada por conta
+    private List<ObservadorConta> observadores = Collections.emptyList();
 
     // Construtor
     public Conta(String numero, String titular, double saldoInicial) {
@@ -30,13 +43,14 @@ public abstract class Conta implements OperacoesBancarias {
 
     // Implementação dos métodos da interface OperacoesBancarias
     @Override
-    public boolean realizarDeposito(double valor) {
+    public synchronized boolean realizarDeposito(double valor) {
         if (valor > 0 && ativa) {
             this.saldo += valor;
-            System.out.println("Depósito de R$ " + valor + " realizado com sucesso.");
+            notificarAlteracao();
+            exibirMensagem("Depósito de R$ " + valor + " realizado com sucesso.");
             return true;
         } else {
-            System.out.println("Depósito inválido ou conta inativa.");
+            exibirMensagem("Depósito inválido ou conta inativa.");
             return false;
         }
     }
@@ -71,21 +85,87 @@ public abstract class Conta implements OperacoesBancarias {
         realizarDeposito(valor);
     }
 
-    public boolean sacar(double valor) {
-        if (valor > 0 && valor <= saldo && ativa) {
+    public synchronized boolean sacar(double valor) {
+        if (permiteSaque(valor)) {
             this.saldo -= valor;
-            System.out.println("Saque de R$ " + valor + " realizado com sucesso.");
+            notificarAlteracao();
+            exibirMensagem("Saque de R$ " + valor + " realizado com sucesso.");
             return true;
         } else {
-            System.out.println("Saque inválido, saldo insuficiente ou conta inativa.");
+            exibirMensagem("Saque inválido, saldo insuficiente ou conta inativa.");
             return false;
         }
     }
 
+    /**
+     * Regra de saque de cada tipo de conta - usada tanto no saque
+     * quanto na reserva de valores (bloqueio). Chamada sempre com o lock da conta.
+     */
+    protected boolean permiteSaque(double valor) {
+        return valor > 0 && valor <= getSaldoDisponivel() && ativa;
+    }
+
+    /**
+     * Quanto ainda pode ser sacado, descontando os valores bloqueados
+     */
+    public double getSaldoDisponivel() {
+        return saldo - valorBloqueado;
+    }
+
+    /**
+     * Reserva um valor para captura futura, respeitando a regra de saque da conta
+     * @return true se o valor foi reservado
+     */
+    public synchronized boolean reservar(double valor) {
+        if (!permiteSaque(valor)) {
+            return false;
+        }
+        valorBloqueado += valor;
+        notificarAlteracao();
+        return true;
+    }
+
+    /**
+     * Devolve ao saldo disponível um valor reservado
+     * @return false se o valor não estiver reservado na conta
+     */
+    public synchronized boolean liberarReserva(double valor) {
+        if (!reservaValida(valor)) {
+            return false;
+        }
+        valorBloqueado = Math.max(0.0, valorBloqueado - valor);
+        notificarAlteracao();
+        return true;
+    }
+
+    /**
+     * Efetiva o saque de um valor reservado - se o saque for recusado
+     * (ex.: conta desativada) a reserva continua valendo
+     */
+    public synchronized boolean capturarReserva(double valor) {
+        if (!reservaValida(valor)) {
+            exibirMensagem("Captura inválida: valor não reservado na conta.");
+            return false;
+        }
+        double bloqueadoAnterior = valorBloqueado;
+        valorBloqueado = Math.max(0.0, valorBloqueado - valor);
+        if (sacar(valor)) {
+            return true;
+        }
+        valorBloqueado = bloqueadoAnterior;
+        return false;
+    }
+
+    // Só se captura ou libera o que foi reservado - nunca deixa saldo ou bloqueio negativos
+    // (a tolerância absorve o arredondamento de somar e subtrair várias reservas em double)
+    private boolean reservaValida(double valor) {
+        return valor > 0 && valor <= valorBloqueado + TOLERANCIA_RESERVA;
+    }
+
     public void transferir(Conta destino, double valor) {
         if (this.sacar(valor)) {
             destino.depositar(valor);
-            System.out.println("Transferência de R$ " + valor + " realizada com sucesso.");
+            exibirMensagem("Transferência de R$ " + valor + " realizada com sucesso.");
         }
     }
 
@@ -106,12 +186,64 @@ public abstract class Conta implements OperacoesBancarias {
         return dataCriacao;
     }
 
+    public double getValorBloqueado() {
+        return valorBloqueado;
+    }
+
     public boolean isAtiva() {
         return ativa;
     }
 
-    public void setAtiva(boolean ativa) {
+    public synchronized void setAtiva(boolean ativa) {
+        this.ativa = ativa;
+        notificarAlteracao();
+    }
+
+    /**
+     * Sobrescreve saldo e status com o estado recebido de outra instância
+     * (usado pela replicação para manter as réplicas iguais ao líder)
+     */
+    public synchronized void restaurarEstado(double saldo, boolean ativa) {
+        this.saldo = saldo;
         this.ativa = ativa;
+        notificarAlteracao();
+    }
+
+    // SOBRECARGA (overload) - também restaura a data de criação e os valores bloqueados da conta original
+    public synchronized void restaurarEstado(double saldo, boolean ativa, LocalDateTime dataCriacao, double valorBloqueado) {
+        this.dataCriacao = dataCriacao;
+        this.valorBloqueado = valorBloqueado;
+        restaurarEstado(saldo, ativa);
+    }
+
+    /**
+     * Liga ou desliga as mensagens de operação no console
+     * (cargas de alto volume desligam para não serializar tudo no System.out)
+     */
+    public static void setMensagensAtivas(boolean ativas) {
+        mensagensAtivas = ativas;
+    }
+
+    public static boolean isMensagensAtivas() {
+        return mensagensAtivas;
+    }
+
+    protected static void exibirMensagem(String mensagem) {
+        if (mensagensAtivas) {
+            System.out.println(mensagem);
+        }
+    }
+
+    // Liga a conta à lista de observadores do banco que a gerencia
+    void vincularObservadores(List<ObservadorConta> observadores) {
+        this.observadores = observadores;
+    }
+
+    // Avisa os observadores - deve ser chamado após toda alteração de estado
+    protected void notificarAlteracao() {
+        for (ObservadorConta observador : observadores) {
+            observador.contaAlterada(this);
+        }
     }
 
     @Override
@@ -31,8 +31,8 @@ public class ContaCorrente extends Conta {
 
     // SOBRESCRITA (override) do método sacar da classe pai
     @Override
-    public boolean sacar(double valor) {
-        if (valor > 0 && (valor <= saldo + limiteCredito) && ativa) {
+    public synchronized boolean sacar(double valor) {
+        if (permiteSaque(valor)) {
             if (valor <= saldo) {
                 this.saldo -= valor;
             } else {
@@ -41,14 +41,21 @@ public class ContaCorrente extends Conta {
                 this.saldo = 0;
                 this.limiteCredito -= valorLimite;
             }
-            System.out.println("Saque de R$ " + valor + " realizado com sucesso.");
+            notificarAlteracao();
+            exibirMensagem("Saque de R$ " + valor + " realizado com sucesso.");
             return true;
         } else {
-            System.out.println("Saque inválido, saldo + limite insuficiente ou conta inativa.");
+            exibirMensagem("Saque inválido, saldo + limite insuficiente ou conta inativa.");
             return false;
         }
     }
 
+    // SOBRESCRITA (override) - o limite de crédito também pode ser sacado
+    @Override
+    public double getSaldoDisponivel() {
+        return saldo - valorBloqueado + limiteCredito;
+    }
+
     // SOBRESCRITA (override) do método abstrato calcularRendimento
     @Override
     public double calcularRendimento() {
@@ -63,12 +70,17 @@ public class ContaCorrente extends Conta {
     }
 
     // Método específico da conta corrente
-    public void cobrarTaxaManutencao() {
-        if (saldo >= taxaManutencao) {
+    // A taxa só sai do saldo próprio livre: não usa o limite nem valores já bloqueados
+    // Conta inativa não paga taxa de manutenção
+    public synchronized void cobrarTaxaManutencao() {
+        if (!ativa) {
+            exibirMensagem("Conta inativa: taxa de manutenção não cobrada.");
+        } else if (saldo - valorBloqueado >= taxaManutencao) {
             saldo -= taxaManutencao;
-            System.out.println("Taxa de manutenção de R$ " + taxaManutencao + " cobrada.");
+            notificarAlteracao();
+            exibirMensagem("Taxa de manutenção de R$ " + taxaManutencao + " cobrada.");
         } else {
-            System.out.println("Saldo insuficiente para cobrar taxa de manutenção.");
+            exibirMensagem("Saldo insuficiente para cobrar taxa de manutenção.");
         }
     }
 
@@ -77,16 +89,18 @@ public class ContaCorrente extends Conta {
         return limiteCredito;
     }
 
-    public void setLimiteCredito(double limiteCredito) {
+    public synchronized void setLimiteCredito(double limiteCredito) {
         this.limiteCredito = limiteCredito;
+        notificarAlteracao();
     }
 
     public double getTaxaManutencao() {
         return taxaManutencao;
     }
 
-    public void setTaxaManutencao(double taxaManutencao) {
+    public synchronized void setTaxaManutencao(double taxaManutencao) {
         this.taxaManutencao = taxaManutencao;
+        notificarAlteracao();
     }
 
     // SOBRESCRITA (override) do método toString
@@ -1,6 +1,8 @@
 package banco.model;
 
 import banco.interfaces.Rendimento;
+import banco.taxas.CatalogoTaxas;
+import banco.taxas.TabelaTaxas;
 import java.time.LocalDate;
 import java.time.Period;
 
@@ -10,10 +12,19 @@ import java.time.Period;
  * Implementa a interface Rendimento
  */
 public class ContaJovem extends Conta implements Rendimento {
+    public static final int IDADE_MINIMA = 16;
+    public static final int IDADE_MAXIMA = 25;
+
     private LocalDate dataNascimento;
     private double limiteSaque;
     private boolean cartaoDebito;
-    private double taxaRendimento;
+    // Id da tabela de taxas compartilhada no CatalogoTaxas
+    private int produtoTaxa;
+    // Taxa mensal própria desta conta - null quando segue a taxa do produto
+    private Double taxaPropria;
+    // Idade em cache - só muda no próximo aniversário. Idade e data ficam no mesmo
+    // objeto imutável: outra thread nunca vê a data nova com a idade antiga
+    private volatile IdadeCalculada idadeCalculada;
 
     // Construtor com SOBRECARGA (overload)
     public ContaJovem(String numero, String titular, double saldoInicial, LocalDate dataNascimento) {
@@ -21,7 +32,7 @@ public class ContaJovem extends Conta implements Rendimento {
         this.dataNascimento = dataNascimento;
         this.limiteSaque = 500.0;
         this.cartaoDebito = true;
-        this.taxaRendimento = 0.003; // 0.3% ao mês
+        this.produtoTaxa = CatalogoTaxas.JOVEM; // 0.3% ao mês
         validarIdade();
     }
 
@@ -31,59 +42,101 @@ public class ContaJovem extends Conta implements Rendimento {
         this.dataNascimento = dataNascimento;
         this.limiteSaque = limiteSaque;
         this.cartaoDebito = true;
-        this.taxaRendimento = 0.003; // 0.3% ao mês
+        this.produtoTaxa = CatalogoTaxas.JOVEM; // 0.3% ao mês
         validarIdade();
     }
 
     // Método privado para validar idade
     private void validarIdade() {
-        int idade = Period.between(dataNascimento, LocalDate.now()).getYears();
-        if (idade < 16 || idade > 25) {
-            System.out.println("Aviso: Conta Jovem é destinada a pessoas entre 16 e 25 anos.");
+        int idadeAtual = getIdade();
+        if (idadeAtual < IDADE_MINIMA || idadeAtual > IDADE_MAXIMA) {
+            exibirMensagem("Aviso: Conta Jovem é destinada a pessoas entre 16 e 25 anos.");
             this.ativa = false;
         }
     }
 
     // SOBRESCRITA (override) do método sacar da classe pai
     @Override
-    public boolean sacar(double valor) {
-        if (valor > 0 && valor <= saldo && valor <= limiteSaque && ativa) {
+    public synchronized boolean sacar(double valor) {
+        if (permiteSaque(valor)) {
             this.saldo -= valor;
-            System.out.println("Saque de R$ " + valor + " realizado com sucesso.");
+            notificarAlteracao();
+            exibirMensagem("Saque de R$ " + valor + " realizado com sucesso.");
             return true;
         } else {
             if (valor > limiteSaque) {
-                System.out.println("Saque excede o limite diário de R$ " + limiteSaque);
+                exibirMensagem("Saque excede o limite diário de R$ " + limiteSaque);
             } else {
-                System.out.println("Saque inválido, saldo insuficiente ou conta inativa.");
+                exibirMensagem("Saque inválido, saldo insuficiente ou conta inativa.");
             }
             return false;
         }
     }
 
+    // SOBRESCRITA (override) - cada saque também respeita o limite diário
+    @Override
+    protected boolean permiteSaque(double valor) {
+        return super.permiteSaque(valor) && valor <= limiteSaque;
+    }
+
     // Implementação dos métodos da interface Rendimento
     @Override
     public double calcularRendimento() {
         // Conta jovem tem rendimento menor que poupança
-        return saldo * taxaRendimento;
+        return saldo * getTaxaRendimento();
     }
 
     @Override
     public double aplicarRendimento() {
-        double rendimento = calcularRendimento();
+        return aplicarRendimento(CatalogoTaxas.getTabela(produtoTaxa));
+    }
+
+    @Override
+    public synchronized double aplicarRendimento(TabelaTaxas tabela) {
+        if (!ativa) {
+            exibirMensagem("Conta inativa: rendimento não aplicado.");
+            return 0.0;
+        }
+        double rendimento = saldo * taxaRendimento(tabela.getTaxa(LocalDate.now()));
         saldo += rendimento;
-        System.out.println("Rendimento de R$ " + rendimento + " aplicado na conta jovem.");
+        notificarAlteracao();
+        exibirMensagem("Rendimento de R$ " + rendimento + " aplicado na conta jovem.");
         return rendimento;
     }
 
     @Override
     public double getTaxaRendimento() {
-        return taxaRendimento;
+        Double propria = taxaPropria;
+        return propria != null ? propria : CatalogoTaxas.getTabela(produtoTaxa).getTaxa(LocalDate.now());
+    }
+
+    // Taxa efetiva dada a taxa atual do produto (usado também pelo processamento em lote do Banco)
+    double taxaRendimento(double taxaProduto) {
+        Double propria = taxaPropria;
+        return propria != null ? propria : taxaProduto;
     }
 
+    // Taxa própria só desta conta - mudanças de taxa do produto deixam de valer para ela
     @Override
-    public void setTaxaRendimento(double taxa) {
-        this.taxaRendimento = taxa;
+    public synchronized void setTaxaRendimento(double taxa) {
+        this.taxaPropria = taxa;
+        notificarAlteracao();
+    }
+
+    public Double getTaxaPropria() {
+        return taxaPropria;
+    }
+
+    @Override
+    public int getProdutoTaxa() {
+        return produtoTaxa;
+    }
+
+    // Volta a seguir a taxa do produto, descartando a taxa própria
+    public synchronized void setProdutoTaxa(int produtoTaxa) {
+        this.produtoTaxa = produtoTaxa;
+        this.taxaPropria = null;
+        notificarAlteracao();
     }
 
     // SOBRESCRITA (override) do método abstrato getTipoConta
@@ -93,17 +146,37 @@ public class ContaJovem extends Conta implements Rendimento {
     }
 
     // Métodos específicos da conta jovem
-    public void solicitarCartaoDebito() {
+    public synchronized void solicitarCartaoDebito() {
         if (cartaoDebito) {
-            System.out.println("Cartão de débito já está disponível para esta conta.");
+            exibirMensagem("Cartão de débito já está disponível para esta conta.");
         } else {
             this.cartaoDebito = true;
-            System.out.println("Cartão de débito solicitado com sucesso.");
+            notificarAlteracao();
+            exibirMensagem("Cartão de débito solicitado com sucesso.");
         }
     }
 
     public int getIdade() {
-        return Period.between(dataNascimento, LocalDate.now()).getYears();
+        LocalDate hoje = LocalDate.now();
+        IdadeCalculada calculada = idadeCalculada;
+        if (calculada == null || !hoje.isBefore(calculada.proximoAniversario)) {
+            int idade = Period.between(dataNascimento, hoje).getYears();
+            calculada = new IdadeCalculada(idade, dataNascimento.plusYears(idade + 1L));
+            idadeCalculada = calculada;
+        }
+        return calculada.idade;
+    }
+
+    /**
+     * Data em que o titular passa da idade máxima e a conta deixa de ser elegível
+     */
+    public LocalDate getDataFimElegibilidade() {
+        LocalDate fim = dataNascimento.plusYears(IDADE_MAXIMA + 1L);
+        // Nascidos em 29/02: em ano não bissexto o aniversário só conta em 01/03
+        if (fim.getDayOfMonth() != dataNascimento.getDayOfMonth()) {
+            fim = fim.plusDays(1);
+        }
+        return fim;
     }
 
     // Getters e Setters específicos
@@ -115,16 +188,18 @@ public class ContaJovem extends Conta implements Rendimento {
         return limiteSaque;
     }
 
-    public void setLimiteSaque(double limiteSaque) {
+    public synchronized void setLimiteSaque(double limiteSaque) {
         this.limiteSaque = limiteSaque;
+        notificarAlteracao();
     }
 
     public boolean isCartaoDebito() {
         return cartaoDebito;
     }
 
-    public void setCartaoDebito(boolean cartaoDebito) {
+    public synchronized void setCartaoDebito(boolean cartaoDebito) {
         this.cartaoDebito = cartaoDebito;
+        notificarAlteracao();
     }
 
     // SOBRESCRITA (override) do método toString
@@ -140,4 +215,15 @@ public class ContaJovem extends Conta implements Rendimento {
                 ", ativa=" + ativa +
                 '}';
     }
-} 
\ No newline at end of file
+
+    // Idade válida até a véspera do próximo aniversário
+    private static final class IdadeCalculada {
+        private final int idade;
+        private final LocalDate proximoAniversario;
+
+        IdadeCalculada(int idade, LocalDate proximoAniversario) {
+            this.idade = idade;
+            this.proximoAniversario = proximoAniversario;
+        }
+    }
+}
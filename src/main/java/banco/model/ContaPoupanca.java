@@ -1,6 +1,9 @@
 package banco.model;
 
 import banco.interfaces.Rendimento;
+import banco.taxas.CatalogoTaxas;
+import banco.taxas.TabelaTaxas;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -10,67 +13,125 @@ import java.time.temporal.ChronoUnit;
  * Implementa a interface Rendimento
  */
 public class ContaPoupanca extends Conta implements Rendimento {
-    private double taxaRendimento;
+    public static final double SALDO_MINIMO = 50.0;
+
+    // Id da tabela de taxas compartilhada no CatalogoTaxas
+    private int produtoTaxa;
+    // Taxa mensal própria desta conta - null quando segue a taxa do produto
+    private Double taxaPropria;
     private LocalDateTime ultimaAtualizacao;
 
     // Construtor com SOBRECARGA (overload)
     public ContaPoupanca(String numero, String titular, double saldoInicial) {
         super(numero, titular, saldoInicial);
-        this.taxaRendimento = 0.005; // 0.5% ao mês
+        this.produtoTaxa = CatalogoTaxas.POUPANCA; // 0.5% ao mês
         this.ultimaAtualizacao = LocalDateTime.now();
     }
 
     // Construtor com SOBRECARGA (overload) - demonstra o conceito
     public ContaPoupanca(String numero, String titular, double saldoInicial, double taxaRendimento) {
         super(numero, titular, saldoInicial);
-        this.taxaRendimento = taxaRendimento;
+        this.produtoTaxa = CatalogoTaxas.POUPANCA;
+        this.taxaPropria = taxaRendimento;
         this.ultimaAtualizacao = LocalDateTime.now();
     }
 
     // SOBRESCRITA (override) do método sacar da classe pai
     @Override
-    public boolean sacar(double valor) {
+    public synchronized boolean sacar(double valor) {
         // Conta poupança tem limite mínimo de saldo
-        double saldoMinimo = 50.0;
-        if (valor > 0 && (saldo - valor) >= saldoMinimo && ativa) {
+        if (permiteSaque(valor)) {
             this.saldo -= valor;
-            System.out.println("Saque de R$ " + valor + " realizado com sucesso.");
+            notificarAlteracao();
+            exibirMensagem("Saque de R$ " + valor + " realizado com sucesso.");
             return true;
         } else {
-            System.out.println("Saque inválido, saldo insuficiente (mínimo R$ 50,00) ou conta inativa.");
+            exibirMensagem("Saque inválido, saldo insuficiente (mínimo R$ 50,00) ou conta inativa.");
             return false;
         }
     }
 
+    // SOBRESCRITA (override) - o saldo mínimo não pode ser sacado
+    @Override
+    public double getSaldoDisponivel() {
+        return saldo - valorBloqueado - SALDO_MINIMO;
+    }
+
     // Implementação dos métodos da interface Rendimento
     @Override
     public double calcularRendimento() {
-        long meses = ChronoUnit.MONTHS.between(ultimaAtualizacao, LocalDateTime.now());
+        return calcularRendimento(CatalogoTaxas.getTabela(produtoTaxa));
+    }
+
+    // Cada mês completo rende pela taxa vigente naquele mês
+    private double calcularRendimento(TabelaTaxas tabela) {
+        return saldo * fatorRendimento(tabela, LocalDateTime.now());
+    }
+
+    // Multiplicador do saldo acumulado desde a última atualização (0 se não fechou um mês)
+    double fatorRendimento(TabelaTaxas tabela, LocalDateTime agora) {
+        long meses = ChronoUnit.MONTHS.between(ultimaAtualizacao, agora);
         if (meses > 0) {
-            return saldo * taxaRendimento * meses;
+            Double propria = taxaPropria;
+            return propria != null ? propria * meses : tabela.somarTaxasMensais(ultimaAtualizacao.toLocalDate(), meses);
         }
         return 0.0;
     }
 
+    // Usado pelo processamento em lote do Banco depois de gravar o novo saldo
+    void registrarRendimento(LocalDateTime agora) {
+        ultimaAtualizacao = agora;
+    }
+
     @Override
     public double aplicarRendimento() {
-        double rendimento = calcularRendimento();
+        return aplicarRendimento(CatalogoTaxas.getTabela(produtoTaxa));
+    }
+
+    @Override
+    public synchronized double aplicarRendimento(TabelaTaxas tabela) {
+        // Conta inativa não rende - o período continua aberto até ela ser reativada
+        if (!ativa) {
+            exibirMensagem("Conta inativa: rendimento não aplicado.");
+            return 0.0;
+        }
+        double rendimento = calcularRendimento(tabela);
         if (rendimento > 0) {
             saldo += rendimento;
             ultimaAtualizacao = LocalDateTime.now();
-            System.out.println("Rendimento de R$ " + rendimento + " aplicado.");
+            notificarAlteracao();
+            exibirMensagem("Rendimento de R$ " + rendimento + " aplicado.");
         }
         return rendimento;
     }
 
     @Override
     public double getTaxaRendimento() {
-        return taxaRendimento;
+        Double propria = taxaPropria;
+        return propria != null ? propria : CatalogoTaxas.getTabela(produtoTaxa).getTaxa(LocalDate.now());
+    }
+
+    // Taxa própria só desta conta - mudanças de taxa do produto deixam de valer para ela
+    @Override
+    public synchronized void setTaxaRendimento(double taxa) {
+        this.taxaPropria = taxa;
+        notificarAlteracao();
+    }
+
+    public Double getTaxaPropria() {
+        return taxaPropria;
     }
 
     @Override
-    public void setTaxaRendimento(double taxa) {
-        this.taxaRendimento = taxa;
+    public int getProdutoTaxa() {
+        return produtoTaxa;
+    }
+
+    // Volta a seguir a taxa do produto, descartando a taxa própria
+    public synchronized void setProdutoTaxa(int produtoTaxa) {
+        this.produtoTaxa = produtoTaxa;
+        this.taxaPropria = null;
+        notificarAlteracao();
     }
 
     // SOBRESCRITA (override) do método abstrato getTipoConta
@@ -79,16 +140,19 @@ public class ContaPoupanca extends Conta implements Rendimento {
         return "Conta Poupança";
     }
 
-    // Método específico da conta poupança (mantido para compatibilidade)
-    public void aplicarRendimento() {
-        aplicarRendimento();
-    }
-
     // Getters e Setters específicos
     public LocalDateTime getUltimaAtualizacao() {
         return ultimaAtualizacao;
     }
 
+    /**
+     * Restaura o início do período de rendimento recebido de outra instância
+     * (replicação) - o aviso aos observadores sai em restaurarEstado
+     */
+    public synchronized void restaurarUltimaAtualizacao(LocalDateTime ultimaAtualizacao) {
+        this.ultimaAtualizacao = ultimaAtualizacao;
+    }
+
     // SOBRESCRITA (override) do método toString
     @Override
     public String toString() {
@@ -96,7 +160,7 @@ public class ContaPoupanca extends Conta implements Rendimento {
                 "numero='" + numero + '\'' +
                 ", titular='" + titular + '\'' +
                 ", saldo=" + saldo +
-                ", taxaRendimento=" + (taxaRendimento * 100) + "%" +
+                ", taxaRendimento=" + (getTaxaRendimento() * 100) + "%" +
                 ", ultimaAtualizacao=" + ultimaAtualizacao +
                 ", ativa=" + ativa +
                 '}';
@@ -0,0 +1,19 @@
+package banco.model;
+
+/**
+ * Operações aritméticas em lote sobre arrays de saldos, usadas pelo Banco
+ * nos processamentos de fim de mês. Cada posição i corresponde a uma conta.
+ */
+interface KernelsSaldo {
+
+    /**
+     * saldos[i] += saldos[i] * fatores[i], apenas onde a conta está ativa e o fator é positivo
+     */
+    void aplicarRendimentos(double[] saldos, double[] fatores, boolean[] ativas, int quantidade);
+
+    /**
+     * saldos[i] -= taxas[i], apenas onde a conta está ativa e o saldo menos os
+     * valores bloqueados (bloqueados[i]) cobre a taxa
+     */
+    void cobrarTaxas(double[] saldos, double[] taxas, double[] bloqueados, boolean[] ativas, int quantidade);
+}
@@ -0,0 +1,26 @@
+package banco.model;
+
+/**
+ * Implementação escalar dos kernels - usada quando o módulo
+ * jdk.incubator.vector não está disponível
+ */
+class KernelsSaldoEscalar implements KernelsSaldo {
+
+    @Override
+    public void aplicarRendimentos(double[] saldos, double[] fatores, boolean[] ativas, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            if (ativas[i] && fatores[i] > 0) {
+                saldos[i] = saldos[i] + saldos[i] * fatores[i];
+            }
+        }
+    }
+
+    @Override
+    public void cobrarTaxas(double[] saldos, double[] taxas, double[] bloqueados, boolean[] ativas, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            if (ativas[i] && saldos[i] - bloqueados[i] >= taxas[i]) {
+                saldos[i] = saldos[i] - taxas[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package banco.model;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementação SIMD dos kernels com a Vector API (jdk.incubator.vector).
+ * As regras de cada conta viram máscaras: as posições fora da máscara
+ * mantêm o saldo original. A aritmética é a mesma da versão escalar,
+ * então os resultados são idênticos.
+ *
+ * Só é carregada por reflexão - requer --add-modules jdk.incubator.vector.
+ */
+class KernelsSaldoVetorial implements KernelsSaldo {
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void aplicarRendimentos(double[] saldos, double[] fatores, boolean[] ativas, int quantidade) {
+        int limite = ESPECIE.loopBound(quantidade);
+        int i = 0;
+        for (; i < limite; i += ESPECIE.length()) {
+            DoubleVector saldo = DoubleVector.fromArray(ESPECIE, saldos, i);
+            DoubleVector fator = DoubleVector.fromArray(ESPECIE, fatores, i);
+            VectorMask<Double> aplicar = VectorMask.fromArray(ESPECIE, ativas, i)
+                    .and(fator.compare(VectorOperators.GT, 0.0));
+            saldo.add(saldo.mul(fator), aplicar).intoArray(saldos, i);
+        }
+        for (; i < quantidade; i++) {
+            if (ativas[i] && fatores[i] > 0) {
+                saldos[i] = saldos[i] + saldos[i] * fatores[i];
+            }
+        }
+    }
+
+    @Override
+    public void cobrarTaxas(double[] saldos, double[] taxas, double[] bloqueados, boolean[] ativas, int quantidade) {
+        int limite = ESPECIE.loopBound(quantidade);
+        int i = 0;
+        for (; i < limite; i += ESPECIE.length()) {
+            DoubleVector saldo = DoubleVector.fromArray(ESPECIE, saldos, i);
+            DoubleVector taxa = DoubleVector.fromArray(ESPECIE, taxas, i);
+            DoubleVector bloqueado = DoubleVector.fromArray(ESPECIE, bloqueados, i);
+            VectorMask<Double> cobrar = VectorMask.fromArray(ESPECIE, ativas, i)
+                    .and(saldo.sub(bloqueado).compare(VectorOperators.GE, taxa));
+            saldo.sub(taxa, cobrar).intoArray(saldos, i);
+        }
+        for (; i < quantidade; i++) {
+            if (ativas[i] && saldos[i] - bloqueados[i] >= taxas[i]) {
+                saldos[i] = saldos[i] - taxas[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package banco.reconciliacao;
+
+import banco.interfaces.FonteHashes;
+import banco.interfaces.ObservadorConta;
+import banco.model.Banco;
+import banco.model.Conta;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Árvore de Merkle do estado das contas (número, saldo e status), mantida
+ * incrementalmente a cada alteração.
+ *
+ * As contas são divididas em partições fixas pelo hash do número; cada folha
+ * guarda a soma dos hashes das suas contas, então uma alteração custa O(1)
+ * na folha mais O(log folhas) para recalcular o caminho até a raiz.
+ *
+ * Os hashes são de 64 bits e não criptográficos: servem para detectar
+ * divergências acidentais entre cópias, não para resistir a adulteração.
+ */
+public class ArvoreMerkle implements ObservadorConta, FonteHashes {
+    private final int quantidadeFolhas;
+    private final long[] nos;
+    private final Map<String, Long>[] contasPorFolha;
+    private Banco banco;
+
+    // Construtor com SOBRECARGA (overload) - 4096 partições
+    public ArvoreMerkle() {
+        this(4096);
+    }
+
+    // Construtor com SOBRECARGA (overload) - quantidade de partições (potência de 2)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ArvoreMerkle(int quantidadeFolhas) {
+        if (quantidadeFolhas <= 0 || Integer.bitCount(quantidadeFolhas) != 1) {
+            throw new IllegalArgumentException("Quantidade de folhas deve ser potência de 2: " + quantidadeFolhas);
+        }
+        this.quantidadeFolhas = quantidadeFolhas;
+        this.nos = new long[2 * quantidadeFolhas];
+        this.contasPorFolha = new Map[quantidadeFolhas];
+        for (int i = 0; i < quantidadeFolhas; i++) {
+            contasPorFolha[i] = new HashMap<>();
+        }
+        for (int no = quantidadeFolhas - 1; no >= 1; no--) {
+            nos[no] = combinar(nos[2 * no], nos[2 * no + 1]);
+        }
+    }
+
+    // Cópia desligada do banco, usada para gravar sem segurar o lock da árvore
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ArvoreMerkle(ArvoreMerkle original) {
+        this.quantidadeFolhas = original.quantidadeFolhas;
+        this.nos = original.nos.clone();
+        this.contasPorFolha = new Map[quantidadeFolhas];
+        for (int i = 0; i < quantidadeFolhas; i++) {
+            contasPorFolha[i] = new HashMap<>(original.contasPorFolha[i]);
+        }
+    }
+
+    /**
+     * Fotografia consistente da árvore - não acompanha alterações posteriores
+     */
+    synchronized ArvoreMerkle copiar() {
+        return new ArvoreMerkle(this);
+    }
+
+    /**
+     * Indexa as contas do banco e passa a acompanhar as alterações
+     */
+    public void iniciar(Banco banco) {
+        this.banco = banco;
+        banco.adicionarObservador(this);
+        for (Conta conta : banco.copiarContas()) {
+            contaAlterada(conta);
+        }
+    }
+
+    public void parar() {
+        if (banco != null) {
+            banco.removerObservador(this);
+        }
+    }
+
+    /**
+     * O estado da conta é lido dentro do lock: se duas alterações da mesma conta
+     * correrem juntas, o hash gravado por último é sempre o do estado mais recente
+     */
+    @Override
+    public synchronized void contaAlterada(Conta conta) {
+        String numero = conta.getNumero();
+        atualizar(numero, hashConta(numero, conta.getSaldo(), conta.isAtiva()));
+    }
+
+    private void atualizar(String numero, long hash) {
+        int folha = folhaDe(numero, quantidadeFolhas);
+        Long anterior = contasPorFolha[folha].put(numero, hash);
+        if (anterior != null && anterior == hash) {
+            return;
+        }
+        int no = quantidadeFolhas + folha;
+        nos[no] += hash - (anterior != null ? anterior : 0L);
+        for (no >>>= 1; no >= 1; no >>>= 1) {
+            nos[no] = combinar(nos[2 * no], nos[2 * no + 1]);
+        }
+    }
+
+    @Override
+    public int getQuantidadeFolhas() {
+        return quantidadeFolhas;
+    }
+
+    @Override
+    public synchronized long getHashNo(int no) {
+        return nos[no];
+    }
+
+    @Override
+    public synchronized Map<String, Long> getContasDaFolha(int folha) {
+        return new HashMap<>(contasPorFolha[folha]);
+    }
+
+    public long getHashRaiz() {
+        return getHashNo(1);
+    }
+
+    /**
+     * Partição de uma conta - depende só do número, então é a mesma em qualquer instância
+     */
+    static int folhaDe(String numero, int quantidadeFolhas) {
+        return (int) (hashTexto(numero) & (quantidadeFolhas - 1));
+    }
+
+    static long hashConta(String numero, double saldo, boolean ativa) {
+        long hash = hashTexto(numero);
+        hash = misturar(hash ^ Double.doubleToLongBits(saldo));
+        return misturar(hash ^ (ativa ? 1L : 2L));
+    }
+
+    static long combinar(long esquerda, long direita) {
+        return misturar(esquerda ^ misturar(direita + 0x9E3779B97F4A7C15L));
+    }
+
+    // FNV-1a de 64 bits sobre os bytes do número
+    private static long hashTexto(String texto) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : texto.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return misturar(hash);
+    }
+
+    // Finalizador do SplitMix64 - espalha bem os bits
+    private static long misturar(long valor) {
+        valor = (valor ^ (valor >>> 30)) * 0xBF58476D1CE4E5B9L;
+        valor = (valor ^ (valor >>> 27)) * 0x94D049BB133111EBL;
+        return valor ^ (valor >>> 31);
+    }
+}
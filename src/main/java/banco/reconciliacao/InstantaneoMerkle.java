@@ -0,0 +1,121 @@
+package banco.reconciliacao;
+
+import banco.interfaces.FonteHashes;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Árvore de Merkle gravada em arquivo e lida sob demanda.
+ * Só os nós e as partições visitados na reconciliação são lidos do disco,
+ * então comparar com um instantâneo custa proporcional à divergência.
+ *
+ * Formato: int folhas, long[2 * folhas] nós, seções das folhas
+ * (int quantidade, depois número e hash de cada conta), long[folhas + 1]
+ * com o início de cada seção e, no fim, a posição dessa tabela.
+ */
+public class InstantaneoMerkle implements FonteHashes, Closeable {
+    private final RandomAccessFile arquivo;
+    private final int quantidadeFolhas;
+    private final long[] inicioFolhas;
+
+    public InstantaneoMerkle(Path caminho) throws IOException {
+        this.arquivo = new RandomAccessFile(caminho.toFile(), "r");
+        this.quantidadeFolhas = arquivo.readInt();
+        arquivo.seek(arquivo.length() - 8);
+        arquivo.seek(arquivo.readLong());
+        this.inicioFolhas = new long[quantidadeFolhas + 1];
+        for (int i = 0; i <= quantidadeFolhas; i++) {
+            inicioFolhas[i] = arquivo.readLong();
+        }
+    }
+
+    /**
+     * Grava o estado atual da árvore - as alterações só ficam bloqueadas
+     * durante a cópia em memória, não durante a escrita no disco
+     */
+    public static void salvar(ArvoreMerkle arvore, Path caminho) throws IOException {
+        ArvoreMerkle copia = arvore.copiar();
+        int folhas = copia.getQuantidadeFolhas();
+        long[] inicioFolhas = new long[folhas + 1];
+        ByteArrayOutputStream secao = new ByteArrayOutputStream();
+        DataOutputStream escritaSecao = new DataOutputStream(secao);
+
+        try (OutputStream arquivo = new BufferedOutputStream(Files.newOutputStream(caminho), 64 * 1024);
+             DataOutputStream saida = new DataOutputStream(arquivo)) {
+            saida.writeInt(folhas);
+            for (int no = 0; no < 2 * folhas; no++) {
+                saida.writeLong(copia.getHashNo(no));
+            }
+            long posicao = 4L + 16L * folhas;
+            for (int folha = 0; folha < folhas; folha++) {
+                Map<String, Long> contas = copia.getContasDaFolha(folha);
+                secao.reset();
+                escritaSecao.writeInt(contas.size());
+                for (Map.Entry<String, Long> conta : contas.entrySet()) {
+                    escritaSecao.writeUTF(conta.getKey());
+                    escritaSecao.writeLong(conta.getValue());
+                }
+                inicioFolhas[folha] = posicao;
+                secao.writeTo(saida);
+                posicao += secao.size();
+            }
+            inicioFolhas[folhas] = posicao;
+            long inicioTabela = inicioFolhas[folhas];
+            for (long inicio : inicioFolhas) {
+                saida.writeLong(inicio);
+            }
+            saida.writeLong(inicioTabela);
+        }
+    }
+
+    @Override
+    public int getQuantidadeFolhas() {
+        return quantidadeFolhas;
+    }
+
+    @Override
+    public synchronized long getHashNo(int no) {
+        try {
+            arquivo.seek(4L + 8L * no);
+            return arquivo.readLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Long> getContasDaFolha(int folha) {
+        try {
+            byte[] secao = new byte[(int) (inicioFolhas[folha + 1] - inicioFolhas[folha])];
+            arquivo.seek(inicioFolhas[folha]);
+            arquivo.readFully(secao);
+
+            DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(secao));
+            int quantidade = entrada.readInt();
+            Map<String, Long> contas = new HashMap<>(quantidade * 2);
+            for (int i = 0; i < quantidade; i++) {
+                contas.put(entrada.readUTF(), entrada.readLong());
+            }
+            return contas;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        arquivo.close();
+    }
+}
@@ -0,0 +1,79 @@
+package banco.reconciliacao;
+
+import banco.interfaces.FonteHashes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compara duas árvores de hashes (dois bancos, ou um banco e um instantâneo)
+ * descendo apenas pelos nós cujos hashes diferem.
+ */
+public class Reconciliador {
+    private int nosVisitados;
+    private int folhasVisitadas;
+
+    /**
+     * Números das contas que existem só em um lado ou cujo estado difere
+     * @return números divergentes, em ordem
+     */
+    public List<String> comparar(FonteHashes origem, FonteHashes destino) {
+        if (origem.getQuantidadeFolhas() != destino.getQuantidadeFolhas()) {
+            throw new IllegalArgumentException("Árvores com quantidades de folhas diferentes: "
+                    + origem.getQuantidadeFolhas() + " e " + destino.getQuantidadeFolhas());
+        }
+        int folhas = origem.getQuantidadeFolhas();
+        nosVisitados = 0;
+        folhasVisitadas = 0;
+
+        List<String> divergentes = new ArrayList<>();
+        ArrayDeque<Integer> pendentes = new ArrayDeque<>();
+        pendentes.push(1);
+        while (!pendentes.isEmpty()) {
+            int no = pendentes.pop();
+            nosVisitados++;
+            if (origem.getHashNo(no) == destino.getHashNo(no)) {
+                continue;
+            }
+            if (no >= folhas) {
+                folhasVisitadas++;
+                compararFolha(origem.getContasDaFolha(no - folhas), destino.getContasDaFolha(no - folhas),
+                        divergentes);
+            } else {
+                pendentes.push(2 * no + 1);
+                pendentes.push(2 * no);
+            }
+        }
+        Collections.sort(divergentes);
+        return divergentes;
+    }
+
+    private static void compararFolha(Map<String, Long> origem, Map<String, Long> destino, List<String> divergentes) {
+        Set<String> numeros = new HashSet<>(origem.keySet());
+        numeros.addAll(destino.keySet());
+        for (String numero : numeros) {
+            if (!Objects.equals(origem.get(numero), destino.get(numero))) {
+                divergentes.add(numero);
+            }
+        }
+    }
+
+    /**
+     * Nós comparados na última reconciliação
+     */
+    public int getNosVisitados() {
+        return nosVisitados;
+    }
+
+    /**
+     * Partições percorridas conta a conta na última reconciliação
+     */
+    public int getFolhasVisitadas() {
+        return folhasVisitadas;
+    }
+}
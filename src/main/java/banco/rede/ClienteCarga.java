@@ -0,0 +1,170 @@
+package banco.rede;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cliente de carga local para o ServidorOperacoes.
+ * Cada conexão envia uma janela de requisições de uma vez (pipeline),
+ * lê todas as respostas e repete até acabar o tempo.
+ *
+ * Uso: java banco.rede.ClienteCarga [host] [porta] [conexoes] [segundos] [janela] [quantidadeContas]
+ */
+public class ClienteCarga {
+    private final String host;
+    private final int porta;
+    private final int conexoes;
+    private final int segundos;
+    private final int janela;
+    private final int quantidadeContas;
+    private final PoolBuffers pool;
+    private final LongAdder operacoes = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+    private final LongAdder erros = new LongAdder();
+
+    public ClienteCarga(String host, int porta, int conexoes, int segundos, int janela, int quantidadeContas) {
+        this.host = host;
+        this.porta = porta;
+        this.conexoes = conexoes;
+        this.segundos = segundos;
+        this.janela = janela;
+        this.quantidadeContas = quantidadeContas;
+        // Pior caso de uma janela: transferências com números de conta longos
+        this.pool = new PoolBuffers(Math.max(64 * 1024, janela * (4 + ProtocoloBinario.TAMANHO_MAXIMO_REQUISICAO)),
+                conexoes * 2);
+    }
+
+    public void executar() throws InterruptedException {
+        System.out.println("Carga: " + conexoes + " conexões, janela " + janela + ", " + segundos + "s");
+        long fim = System.nanoTime() + segundos * 1_000_000_000L;
+        List<Thread> threads = new ArrayList<>();
+        List<long[]> latencias = new ArrayList<>();
+
+        for (int i = 0; i < conexoes; i++) {
+            long[] amostras = new long[1 << 16];
+            latencias.add(amostras);
+            Thread thread = new Thread(() -> executarConexao(fim, amostras), "carga-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        long inicio = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double decorrido = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.println("Operações: " + operacoes.sum());
+        System.out.printf("Vazão: %.0f ops/s%n", operacoes.sum() / decorrido);
+        System.out.println("Recusadas: " + recusadas.sum() + " - Erros: " + erros.sum());
+        imprimirLatencias(latencias);
+    }
+
+    private void executarConexao(long fim, long[] amostras) {
+        ByteBuffer envio = pool.obter();
+        ByteBuffer resposta = pool.obter();
+        int id = 0;
+        int lotes = 0;
+        try (SocketChannel canal = SocketChannel.open(new InetSocketAddress(host, porta))) {
+            canal.socket().setTcpNoDelay(true);
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+            while (System.nanoTime() < fim) {
+                int primeiroId = id;
+                envio.clear();
+                for (int i = 0; i < janela; i++) {
+                    escreverRequisicao(envio, id++, aleatorio);
+                }
+                envio.flip();
+
+                long inicioLote = System.nanoTime();
+                while (envio.hasRemaining()) {
+                    canal.write(envio);
+                }
+                lerRespostas(canal, resposta, primeiroId);
+                // Amostragem circular: guarda os lotes mais recentes
+                amostras[lotes++ & (amostras.length - 1)] = System.nanoTime() - inicioLote;
+                operacoes.add(janela);
+            }
+        } catch (IOException e) {
+            erros.increment();
+            System.out.println("Erro na conexão de carga: " + e.getMessage());
+        } finally {
+            pool.devolver(envio);
+            pool.devolver(resposta);
+            if (lotes < amostras.length) {
+                Arrays.fill(amostras, lotes, amostras.length, -1L);
+            }
+        }
+    }
+
+    private void escreverRequisicao(ByteBuffer envio, int id, ThreadLocalRandom aleatorio) {
+        String conta = String.valueOf(aleatorio.nextInt(quantidadeContas));
+        int sorteio = aleatorio.nextInt(100);
+        if (sorteio < 40) {
+            ProtocoloBinario.escreverSaldo(envio, id, conta);
+        } else if (sorteio < 65) {
+            ProtocoloBinario.escreverDeposito(envio, id, conta, 10.0);
+        } else if (sorteio < 90) {
+            ProtocoloBinario.escreverSaque(envio, id, conta, 10.0);
+        } else {
+            String destino = String.valueOf(aleatorio.nextInt(quantidadeContas));
+            ProtocoloBinario.escreverTransferencia(envio, id, conta, destino, 5.0);
+        }
+    }
+
+    private void lerRespostas(SocketChannel canal, ByteBuffer resposta, int primeiroId) throws IOException {
+        resposta.clear();
+        int recebidas = 0;
+        while (recebidas < janela) {
+            if (canal.read(resposta) < 0) {
+                throw new IOException("Servidor fechou a conexão");
+            }
+            resposta.flip();
+            while (resposta.remaining() >= ProtocoloBinario.TAMANHO_RESPOSTA) {
+                resposta.getInt();
+                int id = resposta.getInt();
+                byte status = resposta.get();
+                resposta.getDouble();
+                if (id != primeiroId + recebidas) {
+                    throw new IOException("Resposta fora de ordem: " + id);
+                }
+                if (status == ProtocoloBinario.STATUS_RECUSADO) {
+                    recusadas.increment();
+                } else if (status != ProtocoloBinario.STATUS_OK) {
+                    erros.increment();
+                }
+                recebidas++;
+            }
+            resposta.compact();
+        }
+    }
+
+    private void imprimirLatencias(List<long[]> latencias) {
+        long[] todas = latencias.stream().flatMapToLong(Arrays::stream).filter(v -> v >= 0).sorted().toArray();
+        if (todas.length == 0) {
+            return;
+        }
+        System.out.printf("Latência por lote (ms): p50=%.3f p99=%.3f max=%.3f%n",
+                todas[todas.length / 2] / 1e6,
+                todas[(int) (todas.length * 0.99)] / 1e6,
+                todas[todas.length - 1] / 1e6);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int porta = args.length > 1 ? Integer.parseInt(args[1]) : 7070;
+        int conexoes = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        int segundos = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int janela = args.length > 4 ? Integer.parseInt(args[4]) : 256;
+        int quantidadeContas = args.length > 5 ? Integer.parseInt(args[5]) : 10000;
+
+        new ClienteCarga(host, porta, conexoes, segundos, janela, quantidadeContas).executar();
+    }
+}
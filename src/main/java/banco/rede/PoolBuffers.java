@@ -0,0 +1,43 @@
+package banco.rede;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * Pool de ByteBuffers diretos reaproveitados entre conexões,
+ * para não alocar (nem deixar para o GC) um buffer por conexão aberta
+ */
+public class PoolBuffers {
+    private final int tamanhoBuffer;
+    private final int maximoLivres;
+    private final ArrayDeque<ByteBuffer> livres;
+
+    public PoolBuffers(int tamanhoBuffer, int maximoLivres) {
+        this.tamanhoBuffer = tamanhoBuffer;
+        this.maximoLivres = maximoLivres;
+        this.livres = new ArrayDeque<>();
+    }
+
+    public synchronized ByteBuffer obter() {
+        ByteBuffer buffer = livres.pollFirst();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(tamanhoBuffer);
+        }
+        return buffer;
+    }
+
+    public synchronized void devolver(ByteBuffer buffer) {
+        buffer.clear();
+        if (livres.size() < maximoLivres) {
+            livres.addFirst(buffer);
+        }
+    }
+
+    public synchronized int getQuantidadeLivres() {
+        return livres.size();
+    }
+
+    public int getTamanhoBuffer() {
+        return tamanhoBuffer;
+    }
+}
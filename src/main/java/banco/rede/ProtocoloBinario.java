@@ -0,0 +1,91 @@
+package banco.rede;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Protocolo binário compacto, com prefixo de tamanho, para as operações
+ * de OperacoesBancarias.
+ *
+ * Requisição: int tamanho, int id, byte operação, byte tamanho do número,
+ * número (ASCII) e, conforme a operação, double valor e a conta de destino.
+ * Resposta: int tamanho, int id, byte status, double saldo da conta de origem.
+ *
+ * O id é devolvido na resposta para o cliente casar requisições em pipeline.
+ */
+public final class ProtocoloBinario {
+    public static final byte DEPOSITO = 1;
+    public static final byte SAQUE = 2;
+    public static final byte SALDO = 3;
+    public static final byte TRANSFERENCIA = 4;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_RECUSADO = 1;
+    public static final byte STATUS_CONTA_NAO_ENCONTRADA = 2;
+    public static final byte STATUS_REQUISICAO_INVALIDA = 3;
+
+    /** Tamanho total de uma resposta, incluindo o prefixo */
+    public static final int TAMANHO_RESPOSTA = 4 + 4 + 1 + 8;
+    /** Maior requisição aceita (sem o prefixo): id, operação, duas contas e valor */
+    public static final int TAMANHO_MAXIMO_REQUISICAO = 4 + 1 + 1 + 255 + 8 + 1 + 255;
+    public static final int TAMANHO_MINIMO_REQUISICAO = 4 + 1 + 1;
+
+    private ProtocoloBinario() {
+    }
+
+    public static void escreverDeposito(ByteBuffer destino, int id, String conta, double valor) {
+        escreverComValor(destino, id, DEPOSITO, conta, valor);
+    }
+
+    public static void escreverSaque(ByteBuffer destino, int id, String conta, double valor) {
+        escreverComValor(destino, id, SAQUE, conta, valor);
+    }
+
+    public static void escreverSaldo(ByteBuffer destino, int id, String conta) {
+        byte[] numero = codificar(conta);
+        destino.putInt(4 + 1 + 1 + numero.length);
+        destino.putInt(id);
+        destino.put(SALDO);
+        destino.put((byte) numero.length);
+        destino.put(numero);
+    }
+
+    public static void escreverTransferencia(ByteBuffer destino, int id, String origem, String contaDestino,
+                                             double valor) {
+        byte[] numeroOrigem = codificar(origem);
+        byte[] numeroDestino = codificar(contaDestino);
+        destino.putInt(4 + 1 + 1 + numeroOrigem.length + 8 + 1 + numeroDestino.length);
+        destino.putInt(id);
+        destino.put(TRANSFERENCIA);
+        destino.put((byte) numeroOrigem.length);
+        destino.put(numeroOrigem);
+        destino.putDouble(valor);
+        destino.put((byte) numeroDestino.length);
+        destino.put(numeroDestino);
+    }
+
+    public static void escreverResposta(ByteBuffer destino, int id, byte status, double saldo) {
+        destino.putInt(TAMANHO_RESPOSTA - 4);
+        destino.putInt(id);
+        destino.put(status);
+        destino.putDouble(saldo);
+    }
+
+    private static void escreverComValor(ByteBuffer destino, int id, byte operacao, String conta, double valor) {
+        byte[] numero = codificar(conta);
+        destino.putInt(4 + 1 + 1 + numero.length + 8);
+        destino.putInt(id);
+        destino.put(operacao);
+        destino.put((byte) numero.length);
+        destino.put(numero);
+        destino.putDouble(valor);
+    }
+
+    private static byte[] codificar(String conta) {
+        byte[] numero = conta.getBytes(StandardCharsets.US_ASCII);
+        if (numero.length > 255) {
+            throw new IllegalArgumentException("Número de conta longo demais: " + conta);
+        }
+        return numero;
+    }
+}
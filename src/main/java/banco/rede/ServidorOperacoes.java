@@ -0,0 +1,346 @@
+package banco.rede;
+
+import banco.interfaces.OperacoesBancarias;
+import banco.model.Banco;
+import banco.model.Conta;
+import banco.model.ContaCorrente;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Servidor não bloqueante (NIO, um único laço de eventos com Selector) que expõe
+ * depósito, saque, saldo e transferência de OperacoesBancarias pela rede.
+ *
+ * Todas as requisições completas presentes no buffer de leitura são executadas
+ * de uma vez (pipeline) e as respostas vão juntas numa única escrita.
+ * O laço executa suas requisições uma de cada vez, mas o mesmo Banco também é
+ * alterado por outras threads (bloqueios, elegibilidade, processamento em lote);
+ * por isso cada operação passa pelos métodos sincronizados de Conta.
+ *
+ * O protocolo não tem autenticação: por padrão o servidor só escuta no loopback.
+ */
+public class ServidorOperacoes {
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final Banco banco;
+    private final String host;
+    private final int porta;
+    private final PoolBuffers pool;
+    // Rascunho reaproveitado para decodificar números de conta
+    private final byte[] numeroConta = new byte[255];
+    private Selector selector;
+    private ServerSocketChannel canalServidor;
+    private volatile boolean executando;
+    private long operacoesExecutadas;
+
+    // Construtor com SOBRECARGA (overload) - escuta apenas no loopback
+    public ServidorOperacoes(Banco banco, int porta) {
+        this(banco, null, porta);
+    }
+
+    // Construtor com SOBRECARGA (overload) - host null ou vazio significa loopback
+    public ServidorOperacoes(Banco banco, String host, int porta) {
+        this.banco = banco;
+        this.host = host;
+        this.porta = porta;
+        this.pool = new PoolBuffers(TAMANHO_BUFFER, 1024);
+    }
+
+    public void iniciar() throws IOException {
+        selector = Selector.open();
+        canalServidor = ServerSocketChannel.open();
+        InetAddress endereco = host == null || host.isEmpty()
+                ? InetAddress.getLoopbackAddress() : InetAddress.getByName(host);
+        canalServidor.bind(new InetSocketAddress(endereco, porta), 1024);
+        canalServidor.configureBlocking(false);
+        canalServidor.register(selector, SelectionKey.OP_ACCEPT);
+        executando = true;
+
+        Thread laco = new Thread(this::executarLaco, "servidor-operacoes");
+        laco.start();
+        System.out.println("Servidor de operações escutando em " + endereco.getHostAddress() + ":" + getPorta() + ".");
+    }
+
+    public void parar() {
+        executando = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private void executarLaco() {
+        try {
+            while (executando) {
+                selector.select();
+                Iterator<SelectionKey> chaves = selector.selectedKeys().iterator();
+                while (chaves.hasNext()) {
+                    SelectionKey chave = chaves.next();
+                    chaves.remove();
+                    try {
+                        if (!chave.isValid()) {
+                            continue;
+                        }
+                        if (chave.isAcceptable()) {
+                            aceitar();
+                        } else {
+                            if (chave.isWritable()) {
+                                aoPoderEscrever(chave);
+                            }
+                            if (chave.isValid() && chave.isReadable()) {
+                                aoPoderLer(chave);
+                            }
+                        }
+                    } catch (IOException e) {
+                        fechar(chave);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Erro no laço do servidor: " + e.getMessage());
+        } finally {
+            encerrar();
+        }
+    }
+
+    private void aceitar() throws IOException {
+        SocketChannel canal;
+        while ((canal = canalServidor.accept()) != null) {
+            canal.configureBlocking(false);
+            canal.socket().setTcpNoDelay(true);
+            canal.register(selector, SelectionKey.OP_READ, new Conexao(pool.obter(), pool.obter()));
+        }
+    }
+
+    private void aoPoderLer(SelectionKey chave) throws IOException {
+        Conexao conexao = (Conexao) chave.attachment();
+        // Buffer cheio: só volta a ler depois que as respostas pendentes saírem
+        if (!conexao.leitura.hasRemaining()) {
+            return;
+        }
+        int lidos = ((SocketChannel) chave.channel()).read(conexao.leitura);
+        if (lidos < 0) {
+            fechar(chave);
+            return;
+        }
+        processar(chave, conexao);
+    }
+
+    private void aoPoderEscrever(SelectionKey chave) throws IOException {
+        Conexao conexao = (Conexao) chave.attachment();
+        // Requisições podem ter ficado esperando espaço para a resposta
+        processar(chave, conexao);
+    }
+
+    /**
+     * Executa todas as requisições completas do buffer e envia as respostas em lote
+     */
+    private void processar(SelectionKey chave, Conexao conexao) throws IOException {
+        ByteBuffer leitura = conexao.leitura;
+        ByteBuffer escrita = conexao.escrita;
+        boolean pendente;
+
+        do {
+            leitura.flip();
+            pendente = false;
+            while (leitura.remaining() >= 4) {
+                int tamanho = leitura.getInt(leitura.position());
+                if (tamanho < ProtocoloBinario.TAMANHO_MINIMO_REQUISICAO
+                        || tamanho > ProtocoloBinario.TAMANHO_MAXIMO_REQUISICAO) {
+                    throw new IOException("Tamanho de requisição inválido: " + tamanho);
+                }
+                if (leitura.remaining() < 4 + tamanho) {
+                    break;
+                }
+                if (escrita.remaining() < ProtocoloBinario.TAMANHO_RESPOSTA) {
+                    pendente = true;
+                    break;
+                }
+                leitura.getInt();
+                int fim = leitura.position() + tamanho;
+                executar(leitura, fim, escrita);
+                leitura.position(fim);
+            }
+            leitura.compact();
+
+            escrita.flip();
+            ((SocketChannel) chave.channel()).write(escrita);
+            escrita.compact();
+            // Se o lote inteiro saiu e ainda sobrou requisição parada por falta de espaço, continua
+        } while (pendente && escrita.position() == 0);
+
+        int interesse = escrita.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+        if (chave.interestOps() != interesse) {
+            chave.interestOps(interesse);
+        }
+    }
+
+    private void executar(ByteBuffer leitura, int fim, ByteBuffer escrita) {
+        int id = leitura.getInt();
+        byte operacao = leitura.get();
+        String numero = lerConta(leitura, fim);
+        if (numero == null) {
+            ProtocoloBinario.escreverResposta(escrita, id, ProtocoloBinario.STATUS_REQUISICAO_INVALIDA, 0.0);
+            return;
+        }
+
+        OperacoesBancarias conta = banco.buscarConta(numero);
+        if (conta == null) {
+            ProtocoloBinario.escreverResposta(escrita, id, ProtocoloBinario.STATUS_CONTA_NAO_ENCONTRADA, 0.0);
+            return;
+        }
+
+        byte status;
+        switch (operacao) {
+            case ProtocoloBinario.SALDO:
+                status = ProtocoloBinario.STATUS_OK;
+                break;
+            case ProtocoloBinario.DEPOSITO:
+                if (!temValor(leitura, fim)) {
+                    status = ProtocoloBinario.STATUS_REQUISICAO_INVALIDA;
+                } else {
+                    status = conta.realizarDeposito(leitura.getDouble())
+                            ? ProtocoloBinario.STATUS_OK : ProtocoloBinario.STATUS_RECUSADO;
+                }
+                break;
+            case ProtocoloBinario.SAQUE:
+                if (!temValor(leitura, fim)) {
+                    status = ProtocoloBinario.STATUS_REQUISICAO_INVALIDA;
+                } else {
+                    status = conta.realizarSaque(leitura.getDouble())
+                            ? ProtocoloBinario.STATUS_OK : ProtocoloBinario.STATUS_RECUSADO;
+                }
+                break;
+            case ProtocoloBinario.TRANSFERENCIA:
+                status = transferir(conta, leitura, fim);
+                break;
+            default:
+                status = ProtocoloBinario.STATUS_REQUISICAO_INVALIDA;
+        }
+        operacoesExecutadas++;
+        ProtocoloBinario.escreverResposta(escrita, id, status, conta.consultarSaldo());
+    }
+
+    private byte transferir(OperacoesBancarias origem, ByteBuffer leitura, int fim) {
+        if (!temValor(leitura, fim)) {
+            return ProtocoloBinario.STATUS_REQUISICAO_INVALIDA;
+        }
+        double valor = leitura.getDouble();
+        String numeroDestino = lerConta(leitura, fim);
+        if (numeroDestino == null) {
+            return ProtocoloBinario.STATUS_REQUISICAO_INVALIDA;
+        }
+        Conta destino = banco.buscarConta(numeroDestino);
+        if (destino == null) {
+            return ProtocoloBinario.STATUS_CONTA_NAO_ENCONTRADA;
+        }
+        // Trava as duas contas sempre na mesma ordem (número da conta) para não haver deadlock;
+        // com as duas travadas o destino não pode ser desativado entre o saque e o depósito
+        boolean origemPrimeiro = origem.getNumeroConta().compareTo(destino.getNumeroConta()) <= 0;
+        Object primeira = origemPrimeiro ? origem : destino;
+        Object segunda = origemPrimeiro ? destino : origem;
+        synchronized (primeira) {
+            synchronized (segunda) {
+                if (!destino.isContaAtiva() || !origem.realizarSaque(valor)) {
+                    return ProtocoloBinario.STATUS_RECUSADO;
+                }
+                destino.realizarDeposito(valor);
+                return ProtocoloBinario.STATUS_OK;
+            }
+        }
+    }
+
+    private static boolean temValor(ByteBuffer leitura, int fim) {
+        return fim - leitura.position() >= 8;
+    }
+
+    private String lerConta(ByteBuffer leitura, int fim) {
+        if (leitura.position() >= fim) {
+            return null;
+        }
+        int tamanho = leitura.get() & 0xFF;
+        if (fim - leitura.position() < tamanho) {
+            return null;
+        }
+        leitura.get(numeroConta, 0, tamanho);
+        return new String(numeroConta, 0, tamanho, StandardCharsets.US_ASCII);
+    }
+
+    private void fechar(SelectionKey chave) {
+        Object anexo = chave.attachment();
+        chave.cancel();
+        chave.attach(null);
+        try {
+            chave.channel().close();
+        } catch (IOException e) {
+            // Já estava fechado
+        }
+        if (anexo instanceof Conexao) {
+            Conexao conexao = (Conexao) anexo;
+            pool.devolver(conexao.leitura);
+            pool.devolver(conexao.escrita);
+        }
+    }
+
+    private void encerrar() {
+        for (SelectionKey chave : selector.keys()) {
+            fechar(chave);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            // Ignorado no encerramento
+        }
+    }
+
+    public int getPorta() {
+        return canalServidor != null ? canalServidor.socket().getLocalPort() : porta;
+    }
+
+    /**
+     * Lido fora do laço apenas para estatística - pode estar levemente defasado
+     */
+    public long getOperacoesExecutadas() {
+        return operacoesExecutadas;
+    }
+
+    /**
+     * Buffers de uma conexão, obtidos do pool e devolvidos ao fechar
+     */
+    private static class Conexao {
+        private final ByteBuffer leitura;
+        private final ByteBuffer escrita;
+
+        Conexao(ByteBuffer leitura, ByteBuffer escrita) {
+            this.leitura = leitura;
+            this.escrita = escrita;
+        }
+    }
+
+    /**
+     * Sobe o servidor com contas correntes numeradas de 0 a N-1
+     * Uso: java banco.rede.ServidorOperacoes [porta] [quantidadeContas] [host]
+     * (sem host escuta só no loopback - use 0.0.0.0 para todas as interfaces)
+     */
+    public static void main(String[] args) throws IOException {
+        int porta = args.length > 0 ? Integer.parseInt(args[0]) : 7070;
+        int quantidadeContas = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        String host = args.length > 2 ? args[2] : null;
+
+        Conta.setMensagensAtivas(false);
+        Banco banco = new Banco("Banco em Rede", "00.000.000/0001-00");
+        for (int i = 0; i < quantidadeContas; i++) {
+            banco.adicionarConta(new ContaCorrente(String.valueOf(i), "Titular " + i, 1000.0));
+        }
+        System.out.println(quantidadeContas + " contas criadas.");
+
+        new ServidorOperacoes(banco, host, porta).iniciar();
+    }
+}
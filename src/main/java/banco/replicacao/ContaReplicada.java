@@ -0,0 +1,74 @@
+package banco.replicacao;
+
+import banco.model.Conta;
+
+/**
+ * Fotografia somente leitura de uma conta da réplica, devolvida nas consultas
+ * do seguidor. Não tem operações: a réplica só muda pelos registros do líder.
+ */
+public final class ContaReplicada {
+    private final String numero;
+    private final String titular;
+    private final String tipoConta;
+    private final double saldo;
+    private final double saldoDisponivel;
+    private final double valorBloqueado;
+    private final boolean ativa;
+
+    private ContaReplicada(Conta conta) {
+        this.numero = conta.getNumero();
+        this.titular = conta.getTitular();
+        this.tipoConta = conta.getTipoConta();
+        this.saldo = conta.getSaldo();
+        this.saldoDisponivel = conta.getSaldoDisponivel();
+        this.valorBloqueado = conta.getValorBloqueado();
+        this.ativa = conta.isAtiva();
+    }
+
+    // Lê a conta sob o lock dela para não misturar campos de duas alterações
+    static ContaReplicada de(Conta conta) {
+        synchronized (conta) {
+            return new ContaReplicada(conta);
+        }
+    }
+
+    public String getNumero() {
+        return numero;
+    }
+
+    public String getTitular() {
+        return titular;
+    }
+
+    public String getTipoConta() {
+        return tipoConta;
+    }
+
+    public double getSaldo() {
+        return saldo;
+    }
+
+    public double getSaldoDisponivel() {
+        return saldoDisponivel;
+    }
+
+    public double getValorBloqueado() {
+        return valorBloqueado;
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    @Override
+    public String toString() {
+        return "ContaReplicada{" +
+                "numero='" + numero + '\'' +
+                ", titular='" + titular + '\'' +
+                ", tipo='" + tipoConta + '\'' +
+                ", saldo=" + saldo +
+                ", saldoDisponivel=" + saldoDisponivel +
+                ", ativa=" + ativa +
+                '}';
+    }
+}
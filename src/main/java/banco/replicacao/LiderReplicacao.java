@@ -0,0 +1,309 @@
+package banco.replicacao;
+
+import banco.interfaces.ObservadorConta;
+import banco.interfaces.ObservadorTaxas;
+import banco.model.Banco;
+import banco.model.Conta;
+import banco.taxas.CatalogoTaxas;
+import banco.taxas.TabelaTaxas;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Lado líder da replicação: observa todas as contas do banco e envia cada
+ * alteração confirmada, em ordem, para os seguidores conectados via TCP.
+ *
+ * As versões dos produtos do CatalogoTaxas entram na mesma sequência, então
+ * a réplica conhece cada produto antes das contas que o usam.
+ *
+ * Os registros são agrupados em lotes e enviados sem esperar confirmação
+ * (pipeline); os seguidores confirmam a última sequência aplicada após cada lote,
+ * o que permite medir o atraso de cada um.
+ *
+ * Protocolo (líder para seguidor): int quantidade, long última sequência do líder
+ * e em seguida os registros. Protocolo (seguidor para líder): long sequência aplicada.
+ *
+ * A fila de cada seguidor é limitada: um seguidor lento ou parado que deixa a fila
+ * encher é desconectado e, ao reconectar, recebe uma nova carga inicial.
+ */
+public class LiderReplicacao implements ObservadorConta, ObservadorTaxas {
+    static final int TAMANHO_MAXIMO_LOTE = 512;
+    // Alterações pendentes por seguidor (além da carga inicial) antes de descartá-lo
+    static final int LIMITE_FILA_SEGUIDOR = 100_000;
+
+    private final Banco banco;
+    private final int porta;
+    private final List<ConexaoSeguidor> seguidores;
+    private long sequencia;
+    private ServerSocket servidor;
+    private volatile boolean executando;
+
+    public LiderReplicacao(Banco banco, int porta) {
+        this.banco = banco;
+        this.porta = porta;
+        this.seguidores = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Passa a observar o banco e começa a aceitar seguidores
+     */
+    public void iniciar() throws IOException {
+        servidor = new ServerSocket(porta, 50, InetAddress.getLoopbackAddress());
+        executando = true;
+        CatalogoTaxas.adicionarObservador(this);
+        banco.adicionarObservador(this);
+
+        Thread aceitador = new Thread(this::aceitarSeguidores, "replicacao-lider-aceitador");
+        aceitador.setDaemon(true);
+        aceitador.start();
+        System.out.println("Líder de replicação escutando na porta " + getPorta() + ".");
+    }
+
+    public void parar() {
+        executando = false;
+        banco.removerObservador(this);
+        CatalogoTaxas.removerObservador(this);
+        try {
+            if (servidor != null) {
+                servidor.close();
+            }
+        } catch (IOException e) {
+            // Já estava fechado
+        }
+        for (ConexaoSeguidor seguidor : seguidores) {
+            seguidor.fechar();
+        }
+        seguidores.clear();
+    }
+
+    /**
+     * Chamado na thread que alterou a conta - apenas enfileira o registro,
+     * o envio acontece na thread de cada seguidor
+     */
+    @Override
+    public synchronized void contaAlterada(Conta conta) {
+        if (seguidores.isEmpty()) {
+            sequencia++;
+            return;
+        }
+        enfileirar(RegistroReplicacao.capturar(++sequencia, conta));
+    }
+
+    /**
+     * Nova versão de um produto de taxas - vai para os seguidores como as alterações de conta
+     */
+    @Override
+    public synchronized void tabelaAlterada(TabelaTaxas tabela) {
+        if (seguidores.isEmpty()) {
+            sequencia++;
+            return;
+        }
+        enfileirar(RegistroReplicacao.capturar(++sequencia, tabela));
+    }
+
+    private void enfileirar(RegistroReplicacao registro) {
+        for (ConexaoSeguidor seguidor : seguidores) {
+            if (!seguidor.fila.offer(registro)) {
+                descartar(seguidor);
+            }
+        }
+    }
+
+    // Fila cheia: o seguidor não acompanha o líder e terá de refazer a carga inicial
+    private void descartar(ConexaoSeguidor seguidor) {
+        if (seguidores.remove(seguidor)) {
+            System.out.println("Seguidor " + seguidor.getEndereco()
+                    + " descartado: mais de " + LIMITE_FILA_SEGUIDOR + " alterações pendentes.");
+        }
+        seguidor.fechar();
+    }
+
+    private void aceitarSeguidores() {
+        while (executando) {
+            Socket socket = null;
+            try {
+                socket = servidor.accept();
+                socket.setTcpNoDelay(true);
+                ConexaoSeguidor seguidor = registrar(socket);
+                if (seguidor != null) {
+                    seguidor.iniciar();
+                    System.out.println("Seguidor conectado: " + seguidor.getEndereco());
+                }
+            } catch (IOException e) {
+                if (executando) {
+                    System.out.println("Erro ao aceitar seguidor: " + e.getMessage());
+                }
+                fecharSocket(socket);
+            } catch (RuntimeException e) {
+                // Falha com um seguidor não pode derrubar a thread que aceita os próximos
+                System.out.println("Erro ao registrar seguidor: " + e);
+                fecharSocket(socket);
+            }
+        }
+    }
+
+    private static void fecharSocket(Socket socket) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Já estava fechado
+        }
+    }
+
+    /**
+     * Envia ao novo seguidor o estado atual de todas as contas antes de qualquer
+     * alteração posterior - o lock garante que nenhuma alteração fique de fora.
+     * Os produtos de taxas vão primeiro, antes das contas que os usam.
+     *
+     * A fila é dimensionada aqui, com o lock, para a carga inicial caber inteira.
+     * @return a conexão registrada, ou null se a carga inicial não coube na fila
+     */
+    private synchronized ConexaoSeguidor registrar(Socket socket) {
+        TabelaTaxas[] tabelas = CatalogoTaxas.getTabelas();
+        List<Conta> contas = banco.copiarContas();
+        ConexaoSeguidor seguidor = new ConexaoSeguidor(socket, tabelas.length + contas.size() + LIMITE_FILA_SEGUIDOR);
+        for (TabelaTaxas tabela : tabelas) {
+            if (!seguidor.fila.offer(RegistroReplicacao.capturar(sequencia, tabela))) {
+                descartar(seguidor);
+                return null;
+            }
+        }
+        for (Conta conta : contas) {
+            if (!seguidor.fila.offer(RegistroReplicacao.capturar(sequencia, conta))) {
+                descartar(seguidor);
+                return null;
+            }
+        }
+        seguidores.add(seguidor);
+        return seguidor;
+    }
+
+    public synchronized long getSequencia() {
+        return sequencia;
+    }
+
+    /**
+     * Atraso de cada seguidor, em número de alterações ainda não aplicadas
+     */
+    public Map<String, Long> getAtrasoSeguidores() {
+        long atual = getSequencia();
+        Map<String, Long> atrasos = new LinkedHashMap<>();
+        for (ConexaoSeguidor seguidor : seguidores) {
+            atrasos.put(seguidor.getEndereco(), Math.max(0L, atual - seguidor.sequenciaConfirmada));
+        }
+        return atrasos;
+    }
+
+    public int getPorta() {
+        return servidor != null ? servidor.getLocalPort() : porta;
+    }
+
+    public int getQuantidadeSeguidores() {
+        return seguidores.size();
+    }
+
+    /**
+     * Conexão com um seguidor: uma thread envia lotes, outra lê as confirmações
+     */
+    private class ConexaoSeguidor {
+        private final Socket socket;
+        private final LinkedBlockingQueue<RegistroReplicacao> fila;
+        private volatile long sequenciaConfirmada;
+        private Thread envio;
+
+        // A capacidade cobre a carga inicial (uma conta por registro) mais as alterações pendentes
+        ConexaoSeguidor(Socket socket, int capacidadeFila) {
+            this.socket = socket;
+            this.fila = new LinkedBlockingQueue<>(capacidadeFila);
+        }
+
+        synchronized void iniciar() {
+            if (socket.isClosed()) {
+                // Descartado antes mesmo de começar a enviar
+                return;
+            }
+            envio = new Thread(this::enviarLotes, "replicacao-envio-" + getEndereco());
+            envio.setDaemon(true);
+            envio.start();
+            Thread confirmacoes = new Thread(this::lerConfirmacoes, "replicacao-confirmacao-" + getEndereco());
+            confirmacoes.setDaemon(true);
+            confirmacoes.start();
+        }
+
+        private void enviarLotes() {
+            List<RegistroReplicacao> lote = new ArrayList<>(TAMANHO_MAXIMO_LOTE);
+            try {
+                DataOutputStream saida = new DataOutputStream(
+                        new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+                while (executando && !Thread.currentThread().isInterrupted()) {
+                    lote.add(fila.take());
+                    fila.drainTo(lote, TAMANHO_MAXIMO_LOTE - 1);
+
+                    saida.writeInt(lote.size());
+                    saida.writeLong(getSequencia());
+                    for (RegistroReplicacao registro : lote) {
+                        registro.escrever(saida);
+                    }
+                    saida.flush();
+                    lote.clear();
+                }
+            } catch (IOException e) {
+                desconectar(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void lerConfirmacoes() {
+            try {
+                DataInputStream entrada = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                while (executando) {
+                    sequenciaConfirmada = entrada.readLong();
+                }
+            } catch (IOException e) {
+                desconectar(e);
+            }
+        }
+
+        private void desconectar(IOException causa) {
+            if (seguidores.remove(this)) {
+                System.out.println("Seguidor " + getEndereco() + " desconectado: " + causa.getMessage());
+            }
+            fechar();
+        }
+
+        void fechar() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Já estava fechado
+            }
+            fila.clear();
+            synchronized (this) {
+                if (envio != null) {
+                    // Acorda a thread de envio parada em fila.take()
+                    envio.interrupt();
+                }
+            }
+        }
+
+        String getEndereco() {
+            return socket.getInetAddress().getHostAddress() + ":" + socket.getPort();
+        }
+    }
+}
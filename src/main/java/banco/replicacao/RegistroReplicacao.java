@@ -0,0 +1,284 @@
+package banco.replicacao;
+
+import banco.model.Banco;
+import banco.model.Conta;
+import banco.model.ContaCorrente;
+import banco.model.ContaJovem;
+import banco.model.ContaPoupanca;
+import banco.taxas.CatalogoTaxas;
+import banco.taxas.TabelaTaxas;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Fotografia imutável do estado de uma conta em um ponto da sequência do líder.
+ * Cada registro carrega o estado completo, então aplicar o mesmo registro
+ * duas vezes (ou um registro mais antigo seguido do mais novo) converge.
+ *
+ * Registros do tipo TIPO_TAXAS carregam uma versão de produto do CatalogoTaxas;
+ * eles chegam antes de qualquer conta que use o produto.
+ */
+public class RegistroReplicacao {
+    static final byte TIPO_CORRENTE = 1;
+    static final byte TIPO_POUPANCA = 2;
+    static final byte TIPO_JOVEM = 3;
+    static final byte TIPO_TAXAS = 4;
+
+    private final long sequencia;
+    private final byte tipo;
+    private final String numero;
+    private final String titular;
+    private final double saldo;
+    private final boolean ativa;
+    private final LocalDateTime dataCriacao;
+    // Autorizações pendentes - sem elas a réplica mostraria saldo disponível maior que o do líder
+    private final double valorBloqueado;
+    // Campos específicos de cada tipo de conta
+    // (corrente: limite e taxa de manutenção; poupança/jovem: taxa própria, NaN se segue o produto)
+    private final double valor1;
+    private final double valor2;
+    private final int produtoTaxa;
+    private final long dataNascimento;
+    private final boolean cartaoDebito;
+    // Início do período de rendimento da poupança - sem ele a réplica perderia o rendimento acumulado
+    private final LocalDateTime ultimaAtualizacao;
+    // Só nos registros TIPO_TAXAS
+    private final TabelaTaxas tabela;
+
+    private RegistroReplicacao(long sequencia, byte tipo, String numero, String titular, double saldo,
+                               boolean ativa, LocalDateTime dataCriacao, double valorBloqueado,
+                               double valor1, double valor2, int produtoTaxa,
+                               long dataNascimento, boolean cartaoDebito, LocalDateTime ultimaAtualizacao) {
+        this.sequencia = sequencia;
+        this.tipo = tipo;
+        this.numero = numero;
+        this.titular = titular;
+        this.saldo = saldo;
+        this.ativa = ativa;
+        this.dataCriacao = dataCriacao;
+        this.valorBloqueado = valorBloqueado;
+        this.valor1 = valor1;
+        this.valor2 = valor2;
+        this.produtoTaxa = produtoTaxa;
+        this.dataNascimento = dataNascimento;
+        this.cartaoDebito = cartaoDebito;
+        this.ultimaAtualizacao = ultimaAtualizacao;
+        this.tabela = null;
+    }
+
+    private RegistroReplicacao(long sequencia, TabelaTaxas tabela) {
+        this.sequencia = sequencia;
+        this.tipo = TIPO_TAXAS;
+        this.numero = null;
+        this.titular = null;
+        this.saldo = 0.0;
+        this.ativa = false;
+        this.dataCriacao = null;
+        this.valorBloqueado = 0.0;
+        this.valor1 = 0.0;
+        this.valor2 = 0.0;
+        this.produtoTaxa = tabela.getProduto();
+        this.dataNascimento = 0L;
+        this.cartaoDebito = false;
+        this.ultimaAtualizacao = null;
+        this.tabela = tabela;
+    }
+
+    /**
+     * Captura o estado atual da conta
+     */
+    public static RegistroReplicacao capturar(long sequencia, Conta conta) {
+        if (conta instanceof ContaCorrente) {
+            ContaCorrente cc = (ContaCorrente) conta;
+            return new RegistroReplicacao(sequencia, TIPO_CORRENTE, cc.getNumero(), cc.getTitular(), cc.getSaldo(),
+                    cc.isAtiva(), cc.getDataCriacao(), cc.getValorBloqueado(), cc.getLimiteCredito(),
+                    cc.getTaxaManutencao(), 0, 0L, false, null);
+        } else if (conta instanceof ContaPoupanca) {
+            ContaPoupanca cp = (ContaPoupanca) conta;
+            return new RegistroReplicacao(sequencia, TIPO_POUPANCA, cp.getNumero(), cp.getTitular(), cp.getSaldo(),
+                    cp.isAtiva(), cp.getDataCriacao(), cp.getValorBloqueado(), taxaPropria(cp.getTaxaPropria()),
+                    0.0, cp.getProdutoTaxa(), 0L, false, cp.getUltimaAtualizacao());
+        } else if (conta instanceof ContaJovem) {
+            ContaJovem cj = (ContaJovem) conta;
+            return new RegistroReplicacao(sequencia, TIPO_JOVEM, cj.getNumero(), cj.getTitular(), cj.getSaldo(),
+                    cj.isAtiva(), cj.getDataCriacao(), cj.getValorBloqueado(), taxaPropria(cj.getTaxaPropria()),
+                    cj.getLimiteSaque(), cj.getProdutoTaxa(), cj.getDataNascimento().toEpochDay(),
+                    cj.isCartaoDebito(), null);
+        }
+        throw new IllegalArgumentException("Tipo de conta não suportado na replicação: " + conta.getTipoConta());
+    }
+
+    /**
+     * Captura uma versão de produto do catálogo de taxas
+     */
+    public static RegistroReplicacao capturar(long sequencia, TabelaTaxas tabela) {
+        return new RegistroReplicacao(sequencia, tabela);
+    }
+
+    private static double taxaPropria(Double taxa) {
+        return taxa != null ? taxa : Double.NaN;
+    }
+
+    /**
+     * Aplica o registro no banco réplica, criando a conta se ela ainda não existir
+     */
+    public void aplicarEm(Banco banco) {
+        if (tipo == TIPO_TAXAS) {
+            CatalogoTaxas.instalar(tabela);
+            return;
+        }
+
+        Conta conta = banco.buscarConta(numero);
+        if (conta == null) {
+            conta = criarConta();
+            banco.adicionarConta(conta);
+        }
+
+        if (conta instanceof ContaCorrente) {
+            ContaCorrente cc = (ContaCorrente) conta;
+            cc.setLimiteCredito(valor1);
+            cc.setTaxaManutencao(valor2);
+        } else if (conta instanceof ContaPoupanca) {
+            ContaPoupanca cp = (ContaPoupanca) conta;
+            if (cp.getProdutoTaxa() != produtoTaxa || !Objects.equals(cp.getTaxaPropria(), taxaPropria())) {
+                cp.setProdutoTaxa(produtoTaxa);
+                if (taxaPropria() != null) {
+                    cp.setTaxaRendimento(valor1);
+                }
+            }
+            cp.restaurarUltimaAtualizacao(ultimaAtualizacao);
+        } else if (conta instanceof ContaJovem) {
+            ContaJovem cj = (ContaJovem) conta;
+            if (cj.getProdutoTaxa() != produtoTaxa || !Objects.equals(cj.getTaxaPropria(), taxaPropria())) {
+                cj.setProdutoTaxa(produtoTaxa);
+                if (taxaPropria() != null) {
+                    cj.setTaxaRendimento(valor1);
+                }
+            }
+            cj.setLimiteSaque(valor2);
+            cj.setCartaoDebito(cartaoDebito);
+        }
+        conta.restaurarEstado(saldo, ativa, dataCriacao, valorBloqueado);
+    }
+
+    private Double taxaPropria() {
+        return Double.isNaN(valor1) ? null : valor1;
+    }
+
+    private Conta criarConta() {
+        switch (tipo) {
+            case TIPO_CORRENTE:
+                return new ContaCorrente(numero, titular, saldo, valor1, valor2);
+            case TIPO_POUPANCA:
+                return new ContaPoupanca(numero, titular, saldo);
+            case TIPO_JOVEM:
+                return new ContaJovem(numero, titular, saldo, LocalDate.ofEpochDay(dataNascimento), valor2);
+            default:
+                throw new IllegalStateException("Tipo de registro desconhecido: " + tipo);
+        }
+    }
+
+    /**
+     * Formato: sequência, tipo e então a tabela (TIPO_TAXAS) ou número, titular, saldo,
+     * ativa, data de criação, valor bloqueado e os campos do tipo de conta
+     */
+    public void escrever(DataOutputStream saida) throws IOException {
+        saida.writeLong(sequencia);
+        saida.writeByte(tipo);
+        if (tipo == TIPO_TAXAS) {
+            tabela.escrever(saida);
+            return;
+        }
+        saida.writeUTF(numero);
+        saida.writeUTF(titular);
+        saida.writeDouble(saldo);
+        saida.writeBoolean(ativa);
+        escreverDataHora(saida, dataCriacao);
+        saida.writeDouble(valorBloqueado);
+        saida.writeDouble(valor1);
+        if (tipo != TIPO_POUPANCA) {
+            saida.writeDouble(valor2);
+        } else {
+            escreverDataHora(saida, ultimaAtualizacao);
+        }
+        if (tipo != TIPO_CORRENTE) {
+            saida.writeInt(produtoTaxa);
+        }
+        if (tipo == TIPO_JOVEM) {
+            saida.writeLong(dataNascimento);
+            saida.writeBoolean(cartaoDebito);
+        }
+    }
+
+    public static RegistroReplicacao ler(DataInputStream entrada) throws IOException {
+        long sequencia = entrada.readLong();
+        byte tipo = entrada.readByte();
+        if (tipo == TIPO_TAXAS) {
+            return new RegistroReplicacao(sequencia, TabelaTaxas.ler(entrada));
+        }
+        String numero = entrada.readUTF();
+        String titular = entrada.readUTF();
+        double saldo = entrada.readDouble();
+        boolean ativa = entrada.readBoolean();
+        LocalDateTime dataCriacao = lerDataHora(entrada);
+        double valorBloqueado = entrada.readDouble();
+        double valor1 = entrada.readDouble();
+        double valor2 = 0.0;
+        LocalDateTime ultimaAtualizacao = null;
+        if (tipo != TIPO_POUPANCA) {
+            valor2 = entrada.readDouble();
+        } else {
+            ultimaAtualizacao = lerDataHora(entrada);
+        }
+        int produtoTaxa = tipo != TIPO_CORRENTE ? entrada.readInt() : 0;
+        long dataNascimento = 0L;
+        boolean cartaoDebito = false;
+        if (tipo == TIPO_JOVEM) {
+            dataNascimento = entrada.readLong();
+            cartaoDebito = entrada.readBoolean();
+        }
+        return new RegistroReplicacao(sequencia, tipo, numero, titular, saldo, ativa, dataCriacao, valorBloqueado,
+                valor1, valor2, produtoTaxa, dataNascimento, cartaoDebito, ultimaAtualizacao);
+    }
+
+    // Data e hora sem fuso: dia (epoch) e nanossegundos do dia
+    private static void escreverDataHora(DataOutputStream saida, LocalDateTime dataHora) throws IOException {
+        saida.writeLong(dataHora.toLocalDate().toEpochDay());
+        saida.writeLong(dataHora.toLocalTime().toNanoOfDay());
+    }
+
+    private static LocalDateTime lerDataHora(DataInputStream entrada) throws IOException {
+        LocalDate data = LocalDate.ofEpochDay(entrada.readLong());
+        return LocalDateTime.of(data, LocalTime.ofNanoOfDay(entrada.readLong()));
+    }
+
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public String getNumero() {
+        return numero;
+    }
+
+    @Override
+    public String toString() {
+        if (tipo == TIPO_TAXAS) {
+            return "RegistroReplicacao{" +
+                    "sequencia=" + sequencia +
+                    ", tabela=" + tabela +
+                    '}';
+        }
+        return "RegistroReplicacao{" +
+                "sequencia=" + sequencia +
+                ", tipo=" + tipo +
+                ", numero='" + numero + '\'' +
+                ", saldo=" + saldo +
+                ", ativa=" + ativa +
+                '}';
+    }
+}
@@ -0,0 +1,208 @@
+package banco.replicacao;
+
+import banco.model.Banco;
+import banco.model.Conta;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Lado seguidor da replicação: recebe os lotes do líder, aplica os registros
+ * em ordem num banco réplica e atende consultas somente leitura
+ * (consultarSaldo / buscarConta), aliviando a carga de leitura do líder.
+ *
+ * As contas da réplica nunca saem desta classe enquanto ela segue o líder;
+ * o banco só fica disponível para alteração depois de promoverALider().
+ */
+public class SeguidorReplicacao {
+    // Espera entre tentativas de reconexão: dobra a cada falha até o máximo
+    static final long ESPERA_INICIAL_MILLIS = 100;
+    static final long ESPERA_MAXIMA_MILLIS = 5_000;
+
+    private final String host;
+    private final int porta;
+    private final Banco replica;
+    private volatile Socket socket;
+    private Thread aplicador;
+    private volatile boolean executando;
+    private volatile boolean conectado;
+    private volatile long sequenciaAplicada;
+    private volatile long sequenciaLider;
+
+    public SeguidorReplicacao(String host, int porta) {
+        this.host = host;
+        this.porta = porta;
+        this.replica = new Banco("Réplica " + host + ":" + porta, "");
+    }
+
+    /**
+     * Conecta ao líder e começa a aplicar os registros recebidos.
+     * Se a conexão cair depois disso, o seguidor reconecta sozinho e
+     * recebe uma nova carga inicial do líder.
+     */
+    public void iniciar() throws IOException {
+        socket = conectar();
+        executando = true;
+        conectado = true;
+
+        aplicador = new Thread(this::seguirLider, "replicacao-seguidor-" + host + ":" + porta);
+        aplicador.setDaemon(true);
+        aplicador.start();
+    }
+
+    private Socket conectar() throws IOException {
+        Socket novo = new Socket(host, porta);
+        novo.setTcpNoDelay(true);
+        return novo;
+    }
+
+    public void parar() {
+        executando = false;
+        fecharSocket();
+        if (aplicador != null) {
+            // Acorda a thread se ela estiver esperando para reconectar
+            aplicador.interrupt();
+        }
+    }
+
+    private void fecharSocket() {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException e) {
+            // Já estava fechado
+        }
+    }
+
+    /**
+     * Aplica os lotes enquanto a conexão durar; qualquer falha fecha o socket
+     * e, depois de uma espera crescente, abre uma nova conexão
+     */
+    private void seguirLider() {
+        long espera = ESPERA_INICIAL_MILLIS;
+        while (executando) {
+            if (conectado) {
+                try {
+                    aplicarLotes();
+                } catch (EOFException e) {
+                    System.out.println("Líder encerrou a replicação.");
+                } catch (IOException e) {
+                    if (executando) {
+                        System.out.println("Erro na replicação: " + e.getMessage());
+                    }
+                } catch (RuntimeException e) {
+                    // Ex.: registro que não pôde ser aplicado - a carga inicial da próxima conexão corrige
+                    System.out.println("Erro ao aplicar registro da replicação: " + e);
+                }
+                conectado = false;
+                fecharSocket();
+            }
+            if (!esperar(espera)) {
+                break;
+            }
+            try {
+                socket = conectar();
+                conectado = true;
+                espera = ESPERA_INICIAL_MILLIS;
+                System.out.println("Seguidor reconectado ao líder " + host + ":" + porta + ".");
+                if (!executando) {
+                    // parar() foi chamado durante a conexão
+                    fecharSocket();
+                }
+            } catch (IOException e) {
+                espera = Math.min(espera * 2, ESPERA_MAXIMA_MILLIS);
+            }
+        }
+        conectado = false;
+    }
+
+    // false se o seguidor foi parado durante a espera
+    private boolean esperar(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            return false;
+        }
+        return executando;
+    }
+
+    private void aplicarLotes() throws IOException {
+        DataInputStream entrada = new DataInputStream(
+                new BufferedInputStream(socket.getInputStream(), 64 * 1024));
+        DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        while (executando) {
+            int quantidade = entrada.readInt();
+            sequenciaLider = entrada.readLong();
+            for (int i = 0; i < quantidade; i++) {
+                RegistroReplicacao registro = RegistroReplicacao.ler(entrada);
+                registro.aplicarEm(replica);
+                // Registros de carga inicial repetem a sequência - nunca retrocede
+                if (registro.getSequencia() > sequenciaAplicada) {
+                    sequenciaAplicada = registro.getSequencia();
+                }
+            }
+            saida.writeLong(sequenciaAplicada);
+            saida.flush();
+        }
+    }
+
+    /**
+     * Consulta somente leitura - retorna null se a conta ainda não foi replicada
+     */
+    public Double consultarSaldo(String numero) {
+        ContaReplicada conta = buscarConta(numero);
+        return conta != null ? conta.getSaldo() : null;
+    }
+
+    /**
+     * Consulta somente leitura - retorna uma fotografia da conta da réplica
+     * (null se a conta ainda não foi replicada)
+     */
+    public ContaReplicada buscarConta(String numero) {
+        Conta conta = replica.buscarConta(numero);
+        return conta != null ? ContaReplicada.de(conta) : null;
+    }
+
+    /**
+     * Quantas alterações do líder ainda não foram aplicadas nesta réplica
+     */
+    public long getAtraso() {
+        return Math.max(0L, sequenciaLider - sequenciaAplicada);
+    }
+
+    public long getSequenciaAplicada() {
+        return sequenciaAplicada;
+    }
+
+    public boolean isConectado() {
+        return conectado;
+    }
+
+    /**
+     * Failover: para de seguir o líder e entrega o banco réplica para uso como novo líder.
+     * A partir daqui os registros do líder antigo não são mais aplicados.
+     *
+     * Só o total bloqueado de cada conta é replicado - os bloqueios (e seus prazos)
+     * ficavam no GerenciadorBloqueios do líder antigo. Sem eles ninguém capturaria
+     * nem expiraria esses valores, então a promoção libera todas as reservas:
+     * autorizações pendentes no líder antigo precisam ser refeitas no novo líder.
+     */
+    public Banco promoverALider() throws InterruptedException {
+        parar();
+        if (aplicador != null) {
+            aplicador.join();
+        }
+        for (Conta conta : replica.getContas()) {
+            double bloqueado = conta.getValorBloqueado();
+            if (bloqueado > 0) {
+                conta.liberarReserva(bloqueado);
+            }
+        }
+        return replica;
+    }
+}
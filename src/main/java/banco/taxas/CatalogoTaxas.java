@@ -0,0 +1,101 @@
+package banco.taxas;
+
+import banco.interfaces.ObservadorTaxas;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Catálogo central dos produtos de rendimento. As contas guardam apenas o
+ * id do produto; a taxa fica numa TabelaTaxas compartilhada.
+ *
+ * Todas as tabelas ficam num único array trocado atomicamente (copy-on-write):
+ * uma mudança de taxa é uma troca só, e quem lê o array uma vez no início
+ * de um processamento enxerga a mesma versão de todos os produtos até o fim.
+ *
+ * Taxas próprias de uma conta ficam na conta, não viram produtos do catálogo.
+ */
+public final class CatalogoTaxas {
+    public static final int POUPANCA = 0;
+    public static final int JOVEM = 1;
+
+    private static final AtomicReference<TabelaTaxas[]> TABELAS = new AtomicReference<>(new TabelaTaxas[] {
+        new TabelaTaxas(POUPANCA, "Poupança", 0.005), // 0.5% ao mês
+        new TabelaTaxas(JOVEM, "Conta Jovem", 0.003)  // 0.3% ao mês
+    });
+    private static final List<ObservadorTaxas> OBSERVADORES = new CopyOnWriteArrayList<>();
+
+    private CatalogoTaxas() {
+    }
+
+    /**
+     * Cria um novo produto de rendimento
+     * @return id do produto
+     */
+    public static synchronized int criarProduto(String nome, double taxaMensal) {
+        TabelaTaxas[] atuais = TABELAS.get();
+        TabelaTaxas[] novas = new TabelaTaxas[atuais.length + 1];
+        System.arraycopy(atuais, 0, novas, 0, atuais.length);
+        novas[atuais.length] = new TabelaTaxas(atuais.length, nome, taxaMensal);
+        TABELAS.set(novas);
+        notificar(novas[atuais.length]);
+        return atuais.length;
+    }
+
+    /**
+     * Altera a taxa de um produto a partir de uma data - vale para todas as contas do produto
+     */
+    public static synchronized void alterarTaxa(int produto, double taxaMensal, LocalDate vigenteDesde) {
+        TabelaTaxas[] novas = TABELAS.get().clone();
+        novas[produto] = novas[produto].comTaxa(taxaMensal, vigenteDesde);
+        TABELAS.set(novas);
+        notificar(novas[produto]);
+    }
+
+    /**
+     * Instala uma versão de produto recebida de outra instância (replicação).
+     * Versões iguais ou mais antigas que a atual são ignoradas.
+     */
+    public static synchronized void instalar(TabelaTaxas tabela) {
+        TabelaTaxas[] atuais = TABELAS.get();
+        int produto = tabela.getProduto();
+        if (produto > atuais.length) {
+            throw new IllegalStateException("Produto " + produto + " recebido antes do produto " + atuais.length);
+        }
+        if (produto < atuais.length && atuais[produto].getVersao() >= tabela.getVersao()) {
+            return;
+        }
+        TabelaTaxas[] novas = produto < atuais.length ? atuais.clone() : Arrays.copyOf(atuais, produto + 1);
+        novas[produto] = tabela;
+        TABELAS.set(novas);
+        notificar(tabela);
+    }
+
+    public static void adicionarObservador(ObservadorTaxas observador) {
+        OBSERVADORES.add(observador);
+    }
+
+    public static void removerObservador(ObservadorTaxas observador) {
+        OBSERVADORES.remove(observador);
+    }
+
+    // Chamado com o lock do catálogo: os observadores recebem as versões na ordem em que entraram
+    private static void notificar(TabelaTaxas tabela) {
+        for (ObservadorTaxas observador : OBSERVADORES) {
+            observador.tabelaAlterada(tabela);
+        }
+    }
+
+    public static TabelaTaxas getTabela(int produto) {
+        return TABELAS.get()[produto];
+    }
+
+    /**
+     * Fotografia de todas as tabelas - indexada pelo id do produto
+     */
+    public static TabelaTaxas[] getTabelas() {
+        return TABELAS.get().clone();
+    }
+}
@@ -0,0 +1,134 @@
+package banco.taxas;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Versão imutável da tabela de taxas de um produto de rendimento.
+ * Guarda o histórico de taxas mensais com a data em que cada uma passa a valer;
+ * alterar a taxa gera uma nova versão, nunca modifica a existente.
+ */
+public final class TabelaTaxas {
+    private final int produto;
+    private final String nome;
+    private final int versao;
+    // Ordenadas pela data de vigência
+    private final LocalDate[] vigencias;
+    private final double[] taxas;
+
+    TabelaTaxas(int produto, String nome, double taxaInicial) {
+        this(produto, nome, 1, new LocalDate[] {LocalDate.MIN}, new double[] {taxaInicial});
+    }
+
+    private TabelaTaxas(int produto, String nome, int versao, LocalDate[] vigencias, double[] taxas) {
+        this.produto = produto;
+        this.nome = nome;
+        this.versao = versao;
+        this.vigencias = vigencias;
+        this.taxas = taxas;
+    }
+
+    /**
+     * Nova versão da tabela com a taxa valendo a partir da data informada
+     * (substitui uma taxa já programada para a mesma data)
+     */
+    TabelaTaxas comTaxa(double taxa, LocalDate vigenteDesde) {
+        int posicao = Arrays.binarySearch(vigencias, vigenteDesde);
+        LocalDate[] novasVigencias;
+        double[] novasTaxas;
+        if (posicao >= 0) {
+            novasVigencias = vigencias;
+            novasTaxas = taxas.clone();
+            novasTaxas[posicao] = taxa;
+        } else {
+            int insercao = -posicao - 1;
+            novasVigencias = new LocalDate[vigencias.length + 1];
+            novasTaxas = new double[taxas.length + 1];
+            System.arraycopy(vigencias, 0, novasVigencias, 0, insercao);
+            System.arraycopy(taxas, 0, novasTaxas, 0, insercao);
+            novasVigencias[insercao] = vigenteDesde;
+            novasTaxas[insercao] = taxa;
+            System.arraycopy(vigencias, insercao, novasVigencias, insercao + 1, vigencias.length - insercao);
+            System.arraycopy(taxas, insercao, novasTaxas, insercao + 1, taxas.length - insercao);
+        }
+        return new TabelaTaxas(produto, nome, versao + 1, novasVigencias, novasTaxas);
+    }
+
+    /**
+     * Taxa mensal vigente na data
+     */
+    public double getTaxa(LocalDate data) {
+        // Quase sempre a taxa mais recente - procura de trás para frente
+        for (int i = vigencias.length - 1; i > 0; i--) {
+            if (!data.isBefore(vigencias[i])) {
+                return taxas[i];
+            }
+        }
+        return taxas[0];
+    }
+
+    /**
+     * Soma das taxas de cada mês completo a partir do início,
+     * usando a taxa vigente no fim de cada mês
+     */
+    public double somarTaxasMensais(LocalDate inicio, long meses) {
+        double soma = 0.0;
+        for (long mes = 1; mes <= meses; mes++) {
+            soma += getTaxa(inicio.plusMonths(mes));
+        }
+        return soma;
+    }
+
+    /**
+     * Formato: produto, nome, versão, quantidade de vigências e cada par (dia, taxa)
+     */
+    public void escrever(DataOutputStream saida) throws IOException {
+        saida.writeInt(produto);
+        saida.writeUTF(nome);
+        saida.writeInt(versao);
+        saida.writeInt(vigencias.length);
+        for (int i = 0; i < vigencias.length; i++) {
+            saida.writeLong(vigencias[i].toEpochDay());
+            saida.writeDouble(taxas[i]);
+        }
+    }
+
+    public static TabelaTaxas ler(DataInputStream entrada) throws IOException {
+        int produto = entrada.readInt();
+        String nome = entrada.readUTF();
+        int versao = entrada.readInt();
+        int quantidade = entrada.readInt();
+        LocalDate[] vigencias = new LocalDate[quantidade];
+        double[] taxas = new double[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            vigencias[i] = LocalDate.ofEpochDay(entrada.readLong());
+            taxas[i] = entrada.readDouble();
+        }
+        return new TabelaTaxas(produto, nome, versao, vigencias, taxas);
+    }
+
+    public int getProduto() {
+        return produto;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getVersao() {
+        return versao;
+    }
+
+    @Override
+    public String toString() {
+        return "TabelaTaxas{" +
+                "produto=" + produto +
+                ", nome='" + nome + '\'' +
+                ", versao=" + versao +
+                ", taxaAtual=" + (getTaxa(LocalDate.now()) * 100) + "%" +
+                '}';
+    }
+}